@@ -0,0 +1,160 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.benchmark;
+
+import com.github.daytron.daytronmoney.currency.Money;
+import com.github.daytron.daytronmoney.currency.MoneyFactory;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the arithmetic operations and comparison of 
+ * <code>Money</code> objects, each with the same operation on 
+ * <code>BigDecimal</code> values as a baseline.
+ * 
+ * @author Ryan Gilera
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoneyArithmeticBenchmark {
+    
+    private static final int DIVISION_SCALE = 18;
+    private static final int POWER_SCALE = 8;
+    
+    /**
+     * Pairs of operands, where every operation on a pair stays within the 
+     * range of <code>Money</code>.
+     */
+    public enum Operands {
+        /** Few digits, all within <code>long</code> arithmetic. */
+        SMALL("12.34", "5.6"),
+        /** Many digits, with 128-bit products. */
+        LARGE("123456789.123456789", "-98765.4321"),
+        /** Very different numbers of decimal places. */
+        MIXED_SCALE("1.5", "0.000000123456789"),
+        /** Products right below the range limit of <code>Money</code>. */
+        NEAR_OVERFLOW("3037000499.97", "-3037000499.96");
+        
+        private final String first;
+        private final String second;
+
+        private Operands(String first, String second) {
+            this.first = first;
+            this.second = second;
+        }
+    }
+    
+    @Param
+    private Operands operands;
+    
+    private Money moneyA;
+    private Money moneyB;
+    private BigDecimal decimalA;
+    private BigDecimal decimalB;
+    
+    @Setup
+    public void setUp() {
+        MoneyFactory moneyFactory = new MoneyFactory("USD");
+        moneyA = moneyFactory.valueOf(operands.first);
+        moneyB = moneyFactory.valueOf(operands.second);
+        decimalA = new BigDecimal(operands.first);
+        decimalB = new BigDecimal(operands.second);
+    }
+    
+    @Benchmark
+    public Money add() {
+        return moneyA.add(moneyB);
+    }
+    
+    @Benchmark
+    public BigDecimal addBigDecimal() {
+        return decimalA.add(decimalB);
+    }
+    
+    @Benchmark
+    public Money subtract() {
+        return moneyA.subtract(moneyB);
+    }
+    
+    @Benchmark
+    public BigDecimal subtractBigDecimal() {
+        return decimalA.subtract(decimalB);
+    }
+    
+    @Benchmark
+    public Money multiply() {
+        return moneyA.multiply(moneyB);
+    }
+    
+    @Benchmark
+    public BigDecimal multiplyBigDecimal() {
+        return decimalA.multiply(decimalB);
+    }
+    
+    @Benchmark
+    public Money divide() {
+        return moneyA.divide(moneyB);
+    }
+    
+    @Benchmark
+    public BigDecimal divideBigDecimal() {
+        return decimalA.divide(decimalB, DIVISION_SCALE, RoundingMode.DOWN);
+    }
+    
+    @Benchmark
+    public Money power() {
+        return moneyA.power(2, POWER_SCALE, RoundingMode.HALF_EVEN);
+    }
+    
+    @Benchmark
+    public BigDecimal powerBigDecimal() {
+        return decimalA.pow(2).setScale(POWER_SCALE, RoundingMode.HALF_EVEN);
+    }
+    
+    @Benchmark
+    public int compareTo() {
+        return moneyA.compareTo(moneyB);
+    }
+    
+    @Benchmark
+    public int compareToBigDecimal() {
+        return decimalA.compareTo(decimalB);
+    }
+}
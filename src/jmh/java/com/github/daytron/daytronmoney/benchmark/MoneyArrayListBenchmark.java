@@ -0,0 +1,176 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.benchmark;
+
+import com.github.daytron.daytronmoney.benchmark.MoneyCorpus.Distribution;
+import com.github.daytron.daytronmoney.collection.MoneyArrayList;
+import com.github.daytron.daytronmoney.currency.Money;
+import com.github.daytron.daytronmoney.currency.MoneyFactory;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the bulk operations of <code>MoneyArrayList</code> over 
+ * collection sizes from a thousand to ten million values.
+ * 
+ * <p>Each operation covers the whole list. The <code>elements</code> 
+ * counter reports the values processed per second, and the bytes allocated 
+ * per element are the GC profiler's bytes per operation divided by the 
+ * size. The mutators work on a list restored before every invocation, 
+ * which adds noise to the smallest sizes.</p>
+ * 
+ * @author Ryan Gilera
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Thread)
+public class MoneyArrayListBenchmark {
+    
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    private int size;
+    
+    @Param
+    private Distribution distribution;
+    
+    private Money[] values;
+    private MoneyArrayList list;
+    private Money operand;
+    
+    /**
+     * Counts the values processed, reported next to the operations.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Elements {
+        public long elements;
+    }
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = MoneyCorpus.values(distribution, size);
+        list = new MoneyArrayList(Arrays.asList(values));
+        operand = new MoneyFactory("USD").valueOf("1.25");
+    }
+    
+    /**
+     * The list of the mutators, with its original values restored before 
+     * every invocation.
+     */
+    @State(Scope.Thread)
+    public static class Restored {
+        private MoneyArrayList list;
+        
+        @Setup(Level.Invocation)
+        public void restoreValues(MoneyArrayListBenchmark benchmark) {
+            list = benchmark.list;
+            for (int i = 0; i < benchmark.size; i++) {
+                list.set(i, benchmark.values[i]);
+            }
+        }
+    }
+    
+    @Benchmark
+    public Money sum(Elements elements) {
+        elements.elements += size;
+        return list.sum();
+    }
+    
+    @Benchmark
+    public Money difference(Elements elements) {
+        elements.elements += size;
+        return list.difference();
+    }
+    
+    @Benchmark
+    public Money product(Elements elements) {
+        elements.elements += size;
+        return list.product();
+    }
+    
+    @Benchmark
+    public Money quotient(Elements elements) {
+        elements.elements += size;
+        return list.quotient();
+    }
+    
+    @Benchmark
+    public MoneyArrayList addEachWith(Restored restored, 
+            Elements elements) {
+        elements.elements += size;
+        restored.list.addEachWith(operand);
+        return restored.list;
+    }
+    
+    @Benchmark
+    public MoneyArrayList subtractEachWith(Restored restored, 
+            Elements elements) {
+        elements.elements += size;
+        restored.list.subtractEachWith(operand);
+        return restored.list;
+    }
+    
+    @Benchmark
+    public MoneyArrayList multiplyEachWith(Restored restored, 
+            Elements elements) {
+        elements.elements += size;
+        restored.list.multiplyEachWith(operand);
+        return restored.list;
+    }
+    
+    @Benchmark
+    public MoneyArrayList divideEachWith(Restored restored, 
+            Elements elements) {
+        elements.elements += size;
+        restored.list.divideEachWith(operand);
+        return restored.list;
+    }
+    
+    @Benchmark
+    public boolean hasNegativeValue(Elements elements) {
+        elements.elements += size;
+        return list.hasNegativeValue();
+    }
+    
+    @Benchmark
+    public boolean hasPositiveValue(Elements elements) {
+        elements.elements += size;
+        return list.hasPositiveValue();
+    }
+}
@@ -0,0 +1,91 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.benchmark;
+
+import com.github.daytron.daytronmoney.currency.Money;
+import com.github.daytron.daytronmoney.currency.MoneyFactory;
+import java.util.Random;
+
+/**
+ * Util class for creating the values of the collection benchmarks.
+ * 
+ * <p>Values come in pairs of a number and its reciprocal, both with a 
+ * finite number of decimal places, so the running product and quotient of 
+ * any number of values stay bounded and exact like the running sum. Every 
+ * value is a separate <code>Money</code> object, as it would be in a 
+ * collection filled from parsed amounts.</p>
+ * 
+ * @author Ryan Gilera
+ */
+public final class MoneyCorpus {
+    
+    /**
+     * Distributions of the number of decimal places of the values.
+     */
+    public enum Distribution {
+        /** All values with two decimal places, ex. "0.16" and "6.25". */
+        CENTS(new String[][]{
+            {"0.16", "6.25"}, {"0.40", "2.50"}, {"0.80", "1.25"}}),
+        /** From one to six decimal places, ex. "0.5" and "0.015625". */
+        MIXED_SCALE(new String[][]{
+            {"0.5", "2"}, {"0.125", "8"}, {"1.5625", "0.64"}, 
+            {"0.015625", "64"}, {"0.000001", "1000000"}, {"3.2", "0.3125"}});
+        
+        private final String[][] pairs;
+
+        private Distribution(String[][] pairs) {
+            this.pairs = pairs;
+        }
+    }
+
+    private MoneyCorpus() {
+    }
+    
+    /**
+     * Creates the given number of values, always the same for the same 
+     * arguments. Negative pairs are mixed in so both signs are present.
+     * 
+     * @param distribution Distribution of the values
+     * @param size Number of values
+     * @return <code>Money</code> array
+     */
+    public static Money[] values(Distribution distribution, int size) {
+        Random random = new Random(42);
+        MoneyFactory moneyFactory = new MoneyFactory("USD");
+        Money[] values = new Money[size];
+        
+        for (int i = 0; i < size; i += 2) {
+            String[] pair = distribution.pairs[
+                    random.nextInt(distribution.pairs.length)];
+            String sign = random.nextInt(4) == 0 ? "-" : "";
+            
+            values[i] = moneyFactory.valueOf(sign + pair[0]);
+            if (i + 1 < size) {
+                values[i + 1] = moneyFactory.valueOf(sign + pair[1]);
+            }
+        }
+        
+        return values;
+    }
+}
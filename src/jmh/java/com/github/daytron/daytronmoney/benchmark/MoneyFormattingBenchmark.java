@@ -0,0 +1,137 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.benchmark;
+
+import com.github.daytron.daytronmoney.currency.Money;
+import com.github.daytron.daytronmoney.currency.MoneyFactory;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of formatting <code>Money</code> objects, each operation 
+ * formatting the next value of a fixed corpus.
+ * 
+ * @author Ryan Gilera
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoneyFormattingBenchmark {
+    
+    // Power of two, so the next index is a mask away
+    private static final int CORPUS_SIZE = 1024;
+    
+    /**
+     * Kinds of values.
+     */
+    public enum Values {
+        /** Cents up to thousands, ex. "-12.34". */
+        CENTS,
+        /** Large whole units with cents, ex. "123456789012.5". */
+        LARGE,
+        /** Many decimal places, ex. "0.000123456789". */
+        MANY_DECIMALS
+    }
+    
+    @Param
+    private Values values;
+    
+    private Money[] monies;
+    private char[] buffer;
+    private StringBuilder builder;
+    private int index;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        MoneyFactory moneyFactory = new MoneyFactory("USD");
+        monies = new Money[CORPUS_SIZE];
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            String sign = random.nextInt(4) == 0 ? "-" : "";
+            String amount;
+            switch (values) {
+                case CENTS:
+                    amount = random.nextInt(10000) + "." 
+                            + String.format(Locale.ROOT, "%02d", 
+                                    random.nextInt(100));
+                    break;
+                case LARGE:
+                    amount = (random.nextLong() >>> 4) + "." 
+                            + random.nextInt(10);
+                    break;
+                default:
+                    amount = "0.000" + (random.nextInt(999999999) + 1);
+                    break;
+            }
+            
+            monies[i] = moneyFactory.valueOf(sign + amount);
+        }
+        
+        buffer = new char[64];
+        builder = new StringBuilder(64);
+    }
+    
+    private Money nextMoney() {
+        index = (index + 1) & (CORPUS_SIZE - 1);
+        return monies[index];
+    }
+    
+    @Benchmark
+    public String toStringCurrency() {
+        return nextMoney().toString();
+    }
+    
+    @Benchmark
+    public String toStringDecimal() {
+        return nextMoney().toStringDecimal();
+    }
+    
+    @Benchmark
+    public int formatToCharArray() {
+        return nextMoney().formatTo(buffer, 0);
+    }
+    
+    @Benchmark
+    public int formatToStringBuilder() throws IOException {
+        builder.setLength(0);
+        nextMoney().formatTo(builder);
+        return builder.length();
+    }
+}
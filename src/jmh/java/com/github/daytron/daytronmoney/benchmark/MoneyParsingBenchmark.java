@@ -0,0 +1,150 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.benchmark;
+
+import com.github.daytron.daytronmoney.currency.MoneyFactory;
+import com.github.daytron.daytronmoney.utility.StringUtil;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of parsing <code>String</code> amounts, each operation parsing 
+ * the next amount of a fixed corpus of realistic inputs.
+ * 
+ * @author Ryan Gilera
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoneyParsingBenchmark {
+    
+    // Power of two, so the next index is a mask away
+    private static final int CORPUS_SIZE = 1024;
+    private static final String[] CODES = {"USD", "GBP", "EUR", "JPY"};
+    private static final String[] SYMBOLS = {"$", "£", "€", "¥"};
+    
+    /**
+     * Kinds of input amounts.
+     */
+    public enum Corpus {
+        /** Signed decimals, ex. "-1234.56". */
+        PLAIN,
+        /** Decimals with grouped whole units, ex. "1,234,567.89". */
+        COMMA_GROUPED,
+        /** Amounts after a currency code, ex. "GBP 12.5" or "USD-3.10". */
+        CODE_PREFIXED,
+        /** 
+         * Amounts after a currency symbol, ex. "$12.50". The symbol is read
+         * as a currency code, so <code>MoneyFactory</code> rejects these.
+         */
+        SYMBOL_PREFIXED,
+        /** Malformed amounts, ex. "12.3.4" or "--5". */
+        INVALID
+    }
+    
+    @Param
+    private Corpus corpus;
+    
+    private String[] amounts;
+    private MoneyFactory moneyFactory;
+    private int index;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        amounts = new String[CORPUS_SIZE];
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            amounts[i] = createAmount(random);
+        }
+        
+        moneyFactory = new MoneyFactory("USD");
+    }
+    
+    private String createAmount(Random random) {
+        long wholeUnit = (long) Math.pow(10, random.nextInt(10)) 
+                * random.nextInt(1000);
+        String decimals = String.format(Locale.ROOT, "%02d", 
+                random.nextInt(100));
+        String sign = random.nextInt(4) == 0 ? "-" : "";
+        
+        switch (corpus) {
+            case PLAIN:
+                return sign + wholeUnit + "." + decimals;
+            case COMMA_GROUPED:
+                return sign + String.format(Locale.ROOT, "%,d", wholeUnit) 
+                        + "." + decimals;
+            case CODE_PREFIXED:
+                return CODES[random.nextInt(CODES.length)] 
+                        + (random.nextBoolean() ? " " : "") 
+                        + sign + wholeUnit + "." + decimals;
+            case SYMBOL_PREFIXED:
+                return SYMBOLS[random.nextInt(SYMBOLS.length)] 
+                        + sign + wholeUnit + "." + decimals;
+            default:
+                String[] invalid = {
+                    wholeUnit + "." + decimals + "." + decimals,
+                    "--" + wholeUnit,
+                    "." + decimals,
+                    wholeUnit + "x" + decimals,
+                    "12345678901234567890." + decimals
+                };
+                return invalid[random.nextInt(invalid.length)];
+        }
+    }
+    
+    private String nextAmount() {
+        index = (index + 1) & (CORPUS_SIZE - 1);
+        return amounts[index];
+    }
+    
+    @Benchmark
+    public Object valueOf() {
+        String amount = nextAmount();
+        try {
+            return moneyFactory.valueOf(amount);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+    
+    @Benchmark
+    public String[] parseAndRemoveCurrencyCode() {
+        return StringUtil.parseAndRemoveCurrencyCode(nextAmount());
+    }
+}
@@ -0,0 +1,154 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.benchmark;
+
+import com.github.daytron.daytronmoney.benchmark.MoneyCorpus.Distribution;
+import com.github.daytron.daytronmoney.currency.CurrencyRegistry;
+import com.github.daytron.daytronmoney.currency.Money;
+import com.github.daytron.daytronmoney.currency.MoneyFactory;
+import com.github.daytron.daytronmoney.currency.MoneyVector;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the bulk operations of <code>MoneyVector</code> over the 
+ * same sizes and values as <code>MoneyArrayListBenchmark</code>, so the 
+ * two can be compared per element.
+ * 
+ * @author Ryan Gilera
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Thread)
+public class MoneyVectorBenchmark {
+    
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    private int size;
+    
+    @Param
+    private Distribution distribution;
+    
+    private Money[] values;
+    private MoneyVector vector;
+    private Money operand;
+    
+    /**
+     * Counts the values processed, reported next to the operations.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Elements {
+        public long elements;
+    }
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = MoneyCorpus.values(distribution, size);
+        vector = new MoneyVector(CurrencyRegistry.of("USD"), size);
+        for (Money value : values) {
+            vector.add(value);
+        }
+        operand = new MoneyFactory("USD").valueOf("1.25");
+    }
+    
+    /**
+     * The vector of the mutators, with its original values and scale 
+     * restored before every invocation.
+     */
+    @State(Scope.Thread)
+    public static class Restored {
+        private MoneyVector vector;
+        
+        @Setup(Level.Invocation)
+        public void restoreValues(MoneyVectorBenchmark benchmark) {
+            vector = benchmark.vector;
+            vector.clear();
+            for (Money value : benchmark.values) {
+                vector.add(value);
+            }
+        }
+    }
+    
+    @Benchmark
+    public Money sum(Elements elements) {
+        elements.elements += size;
+        return vector.sum();
+    }
+    
+    @Benchmark
+    public Money min(Elements elements) {
+        elements.elements += size;
+        return vector.min();
+    }
+    
+    @Benchmark
+    public Money max(Elements elements) {
+        elements.elements += size;
+        return vector.max();
+    }
+    
+    @Benchmark
+    public MoneyVector addEachWith(Restored restored, Elements elements) {
+        elements.elements += size;
+        restored.vector.addEachWith(operand);
+        return restored.vector;
+    }
+    
+    @Benchmark
+    public MoneyVector multiplyEachWith(Restored restored, 
+            Elements elements) {
+        elements.elements += size;
+        restored.vector.multiplyEachWith(operand);
+        return restored.vector;
+    }
+    
+    @Benchmark
+    public MoneyVector divideEachWith(Restored restored, 
+            Elements elements) {
+        elements.elements += size;
+        restored.vector.divideEachWith(operand);
+        return restored.vector;
+    }
+    
+    @Benchmark
+    public boolean hasNegativeValue(Elements elements) {
+        elements.elements += size;
+        return vector.hasNegativeValue();
+    }
+}
@@ -24,8 +24,17 @@
 package com.github.daytron.daytronmoney.collection;
 
 import com.github.daytron.daytronmoney.currency.Money;
+import com.github.daytron.daytronmoney.currency.MoneyAccumulator;
+import com.github.daytron.daytronmoney.currency.MoneyFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
 
 /**
  * Custom data structure for handling Monies that extends the capabilities of 
@@ -36,6 +45,9 @@ import java.util.Iterator;
  * @author Ryan Gilera
  */
 public class MoneyArrayList extends AbstractMoneyList {
+    
+    // Smallest number of amounts parsed by a single task
+    private static final int MIN_PARSE_CHUNK = 1024;
 
     /**
      * Creates <code>MoneyArrayList</code> object with no arguments
@@ -64,6 +76,91 @@ public class MoneyArrayList extends AbstractMoneyList {
         super(initialCapacity);
     }
     
+    /**
+     * Parses all amounts in parallel on the common fork-join pool and 
+     * appends them in input order. Accepts the same inputs as 
+     * <code>MoneyFactory.valueOf(String)</code>, with the currency of the 
+     * <code>MoneyFactory</code> of this list as the default currency. If any 
+     * amount is invalid, its exception is thrown and nothing is appended.
+     * 
+     * @param amounts <code>List</code> of amounts to parse
+     */
+    public void parseAll(List<? extends CharSequence> amounts) {
+        parseAll(amounts, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Parses all amounts in parallel on the given fork-join pool and 
+     * appends them in input order. Each task parses a contiguous range of 
+     * the amounts with its own <code>MoneyFactory</code>. If any amount is 
+     * invalid, its exception is thrown and nothing is appended.
+     * 
+     * @param amounts <code>List</code> of amounts to parse
+     * @param pool <code>ForkJoinPool</code> that runs the parsing tasks
+     */
+    public void parseAll(List<? extends CharSequence> amounts, 
+            ForkJoinPool pool) {
+        if (!(amounts instanceof RandomAccess)) {
+            amounts = new ArrayList<>(amounts);
+        }
+        
+        Money[] results = new Money[amounts.size()];
+        int chunkSize = Math.max(MIN_PARSE_CHUNK, 
+                results.length / (pool.getParallelism() * 8));
+        try {
+            pool.invoke(new ParseTask(amounts, results, 0, results.length, 
+                    chunkSize, getMoneyFactory().getCurrencyCode()));
+        } catch (RuntimeException e) {
+            throw originalException(e);
+        }
+        
+        addAll(Arrays.asList(results));
+    }
+    
+    /**
+     * Parses all amounts of a stream in parallel and appends them in the 
+     * encounter order of the stream. Each worker thread parses with its own 
+     * <code>MoneyFactory</code>. If any amount is invalid, its exception is 
+     * thrown and nothing is appended.
+     * 
+     * @param amounts <code>Stream</code> of amounts to parse
+     */
+    public void parseAll(Stream<? extends CharSequence> amounts) {
+        String currencyCode = getMoneyFactory().getCurrencyCode();
+        ThreadLocal<MoneyFactory> factories = ThreadLocal.withInitial(
+                () -> new MoneyFactory(currencyCode));
+        
+        Money[] results;
+        try {
+            results = amounts.parallel()
+                    .map((amount) -> factories.get()
+                            .valueOf(amount, 0, amount.length()))
+                    .toArray(Money[]::new);
+        } catch (RuntimeException e) {
+            throw originalException(e);
+        }
+        
+        addAll(Arrays.asList(results));
+    }
+    
+    /**
+     * Fork-join tasks rethrow an exception of another thread as a copy 
+     * that wraps it, so the original exception is returned instead.
+     * 
+     * @param exception <code>RuntimeException</code> thrown by a task
+     * @return The original <code>RuntimeException</code>
+     */
+    private static RuntimeException originalException(
+            RuntimeException exception) {
+        Throwable cause = exception.getCause();
+        if (cause instanceof RuntimeException 
+                && cause.getClass() == exception.getClass()) {
+            return (RuntimeException) cause;
+        }
+        
+        return exception;
+    }
+    
     /**
      * Checks of this object has negative <code>Money</code> objects.
      * 
@@ -176,12 +273,34 @@ public class MoneyArrayList extends AbstractMoneyList {
      */
     @Override
     public Money sum() {
-        Money sumMoney = new Money.Builder().build();
+        MoneyAccumulator accumulator = new MoneyAccumulator();
         for (Money money : this) {
-            sumMoney = sumMoney.add(money);
+            accumulator.add(money);
+        }
+        
+        return accumulator.toMoney();
+    }
+
+    /**
+     * Calculates the sum of the products of the values stored and the 
+     * values at the same positions of another list. The products are added
+     * as unscaled values and only the result is created as a 
+     * <code>Money</code> object.
+     * 
+     * @param other <code>MoneyArrayList</code> object of the same size
+     * @return <code>Money</code> as sum of products
+     */
+    public Money dot(MoneyArrayList other) {
+        if (size() != other.size()) {
+            throw new IllegalArgumentException("Lists have different sizes.");
+        }
+        
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+        for (int i = 0; i < size(); i++) {
+            accumulator.multiplyAdd(get(i), other.get(i));
         }
         
-        return sumMoney;
+        return accumulator.toMoney();
     }
 
     /**
@@ -297,4 +416,48 @@ public class MoneyArrayList extends AbstractMoneyList {
             set(i, get(i).divide(money));
         }
     }
+    
+    /**
+     * Parses a range of amounts into the same range of the results, 
+     * splitting it in halves until it is at most the chunk size.
+     */
+    private static final class ParseTask extends RecursiveAction {
+        
+        private static final long serialVersionUID = 1L;
+        
+        private final List<? extends CharSequence> amounts;
+        private final Money[] results;
+        private final int start;
+        private final int end;
+        private final int chunkSize;
+        private final String currencyCode;
+
+        ParseTask(List<? extends CharSequence> amounts, Money[] results, 
+                int start, int end, int chunkSize, String currencyCode) {
+            this.amounts = amounts;
+            this.results = results;
+            this.start = start;
+            this.end = end;
+            this.chunkSize = chunkSize;
+            this.currencyCode = currencyCode;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start > chunkSize) {
+                int middle = (start + end) >>> 1;
+                invokeAll(new ParseTask(amounts, results, start, middle, 
+                                chunkSize, currencyCode),
+                        new ParseTask(amounts, results, middle, end, 
+                                chunkSize, currencyCode));
+                return;
+            }
+            
+            MoneyFactory factory = new MoneyFactory(currencyCode);
+            for (int i = start; i < end; i++) {
+                CharSequence amount = amounts.get(i);
+                results[i] = factory.valueOf(amount, 0, amount.length());
+            }
+        }
+    }
 }
@@ -24,6 +24,7 @@
 package com.github.daytron.daytronmoney.collection;
 
 import com.github.daytron.daytronmoney.currency.Money;
+import com.github.daytron.daytronmoney.currency.MoneyAccumulator;
 import java.util.Map;
 
 /**
@@ -154,12 +155,12 @@ public class MoneyHashMap<K,V extends Money> extends AbstractMoneyMap<K, Money>{
      */
     @Override
     public Money sum() {
-        Money sumMoney = new Money.Builder().build();
+        MoneyAccumulator accumulator = new MoneyAccumulator();
         for (Money money : this.values()) {
-            sumMoney = sumMoney.add(money);
+            accumulator.add(money);
         }
         
-        return sumMoney;
+        return accumulator.toMoney();
     }
     
     /**
@@ -24,9 +24,11 @@
 package com.github.daytron.daytronmoney.conversion;
 
 import com.github.daytron.daytronmoney.exception.MoneyConversionException;
+import com.github.daytron.daytronmoney.utility.FlightRecorderUtil;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -51,13 +53,21 @@ class ConversionClient {
     private ConversionClient() {}
 
     /**
-     * Extracts the JSON element based on the passed URL parameter.
+     * Extracts the JSON element based on the passed URL parameter. Each 
+     * round trip is recorded as a <code>ConversionRequestEvent</code>.
      *
      * @param urlString Custom API URL String as its parameter
      * @return JsonObject of the JSON data extracted
      */
     private static JsonObject extractJsonElement(String urlString) throws
             MoneyConversionException {
+        ConversionRequestEvent event = null;
+        if (FlightRecorderUtil.isRecorderActive()) {
+            event = new ConversionRequestEvent();
+            event.begin();
+        }
+        
+        CountingInputStream content = null;
         try {
             // Connect to the URL using Java's native library
             URL url = new URL(urlString);
@@ -65,9 +75,11 @@ class ConversionClient {
             request.connect();
 
             // Parse content as JsonElement object
+            content = new CountingInputStream(
+                    (InputStream) request.getContent());
             JsonParser jsonParser = new JsonParser();
-            JsonElement rootElement = jsonParser.parse(new InputStreamReader(
-                    (InputStream) request.getContent()));
+            JsonElement rootElement = jsonParser.parse(
+                    new InputStreamReader(content));
 
             //System.out.println("root element: \n"+rootElement);
             return rootElement.getAsJsonObject();
@@ -76,6 +88,15 @@ class ConversionClient {
             throw new MoneyConversionException("Invalid API URL", ex);
         } catch (IOException ex) {
             throw new MoneyConversionException("IO Exception occured.", ex);
+        } finally {
+            if (event != null) {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.setRequest(urlString, 
+                            (content == null) ? 0 : content.getCount());
+                    event.commit();
+                }
+            }
         }
     }
 
@@ -196,4 +217,47 @@ class ConversionClient {
                     + member + "\" JSON member.");
         }
     }
+    
+    /**
+     * An <code>InputStream</code> counting the bytes read through it.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+        
+        private long getCount() {
+            return count;
+        }
+    }
 }
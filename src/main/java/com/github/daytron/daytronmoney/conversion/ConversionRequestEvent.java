@@ -0,0 +1,64 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.conversion;
+
+import com.github.daytron.daytronmoney.utility.FlightRecorderUtil;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for an HTTP round trip of 
+ * <code>ConversionClient</code> to the exchange rate API. The duration of 
+ * the event is the latency from connecting to reading the whole response.
+ * 
+ * @author Ryan Gilera
+ */
+@Name("com.github.daytron.daytronmoney.ConversionRequest")
+@Label("Exchange Rate Request")
+@Category(FlightRecorderUtil.CATEGORY)
+@Description("An HTTP round trip to the exchange rate API")
+final class ConversionRequestEvent extends Event {
+    
+    @Label("URL")
+    private String url;
+    
+    @Label("Bytes Read")
+    @DataAmount
+    private long bytes;
+    
+    /**
+     * Sets the requested URL and the number of bytes of the response.
+     * 
+     * @param url The requested URL
+     * @param bytes Number of bytes read
+     */
+    void setRequest(String url, long bytes) {
+        this.url = url;
+        this.bytes = bytes;
+    }
+}
@@ -23,8 +23,6 @@
  */
 package com.github.daytron.daytronmoney.currency;
 
-import com.github.daytron.daytronmoney.utility.ConversionTypeUtil;
-import com.github.daytron.daytronmoney.utility.StringUtil;
 import java.math.BigInteger;
 
 /**
@@ -34,6 +32,8 @@ import java.math.BigInteger;
  * @author Ryan Gilera
  */
 class Addition extends MoneyOperation {
+    
+    private final boolean subtractThat;
 
     /**
      * Constructor for accepting two <code>Money</code> objects for addition.
@@ -42,112 +42,72 @@ class Addition extends MoneyOperation {
      * @param thatMoney A <code>Money</code> object
      */
     protected Addition(Money thisMoney, Money thatMoney) {
+        this(thisMoney, thatMoney, false);
+    }
+    
+    /**
+     * Constructor for accepting two <code>Money</code> objects for addition,
+     * with the option to add the negated value of the second one instead.
+     * 
+     * @param thisMoney A <code>Money</code> object
+     * @param thatMoney A <code>Money</code> object
+     * @param subtractThat <code>true</code> to subtract the second object
+     */
+    protected Addition(Money thisMoney, Money thatMoney, boolean subtractThat) {
         super(thisMoney, thatMoney);
+        this.subtractThat = subtractThat;
     }
 
     /**
-     * Implements execute method from it's super class. Addition operation of 
+     * Implements getOperation method from it's super class.
+     * 
+     * @return <code>MoneyMetrics.Operation</code> value
+     */
+    @Override
+    protected MoneyMetrics.Operation getOperation() {
+        return (subtractThat) ? MoneyMetrics.Operation.SUBTRACTION : 
+                MoneyMetrics.Operation.ADDITION;
+    }
+    
+    /**
+     * Implements calculate method from it's super class. Addition operation of 
      * two <code>Money</code> objects.
      * 
+     * <p>Both values are aligned to the larger scale and added as unscaled 
+     * <code>long</code> values. Falls back to <code>BigInteger</code> only 
+     * when the aligned values or the sum overflow.
+     * 
      * @return A <code>Money</code> object representing the sum. 
      */
     @Override
-    public Money execute() {
+    protected Money calculate() {
         if (getThatMoney() == null) {
             throw new NullPointerException("Cannot add Null value.");
         }
 
-        long newWholeUnit, newDecimalUnit, newLeadingZeroes;
-        SignValue newSign;
-        
-        SignValue thisSign = getThisMoney().getSign();
-        SignValue thatSign = getThatMoney().getSign();
-        
-        final BigInteger[] resultArray = ConversionTypeUtil
-                    .concatWholeAndDecThenConvertBigInteger(getThisMoney(), getThatMoney());
-        final BigInteger cutOffDecimalPlace = resultArray[0];
-        final BigInteger concatThisBigInt = resultArray[1];
-        final BigInteger concatThatBigInt = resultArray[2];
-
-        BigInteger sumBigInt;
+        final int scale = Math.max(scaleOf(getThisMoney()), 
+                scaleOf(getThatMoney()));
         
-        if ((thisSign == SignValue.Positive && thatSign == SignValue.Positive)
-           || (thisSign == SignValue.Negative && thatSign == SignValue.Negative)) {
-
-            sumBigInt = concatThisBigInt.add(concatThatBigInt);
+        try {
+            long thisUnscaled = unscaledOf(getThisMoney(), scale);
+            long thatUnscaled = unscaledOf(getThatMoney(), scale);
             
-            // Determine sign
-            newSign = ((thisSign == SignValue.Positive)?SignValue.Positive:SignValue.Negative);
-        } else {
-            BigInteger greaterBigInt, lesserBigInt;
-            // Determine sign
-            // Determine the larger amount and assign them respectively.
-            if (concatThisBigInt.compareTo(concatThatBigInt) < 0) {
-                // Choose the sign of the greater money
-                newSign = thatSign;
-
-                greaterBigInt = concatThatBigInt;
-                lesserBigInt = concatThisBigInt;
-            } else if (concatThisBigInt.compareTo(concatThatBigInt) > 0) {
-                // Choose the sign of the greater money
-                newSign = thisSign;
-                
-                greaterBigInt = concatThisBigInt;
-                lesserBigInt = concatThatBigInt;
-            } else {
-                // Otherwise they are both equal and will result to zero.
-                // For simplicity sake, zero is assume positive
-                // Note: In the toString method, zero value money is filtered to 
-                // show no sign at all
-                newSign = SignValue.Positive;
-                // Doesn't matter which one is which since they are equal
-                greaterBigInt = concatThisBigInt;
-                lesserBigInt = concatThatBigInt;
-            }
-
-            sumBigInt = greaterBigInt.subtract(lesserBigInt);
-        }
-        
-        // Return to String and separate whole from decimal values
-        final String sumValueStr = sumBigInt.toString();
-        // Determine the index of the last character for whole unit
-        // to determine the position of decimal point.
-        final long lastIndexOfWhole = ((sumValueStr.length()-1) - 
-                cutOffDecimalPlace.intValue());
-
-        String newWholeStr ="", newDecimalStr="";
-        for (int i = 0; i < sumValueStr.length(); i++) {
-            char character = sumValueStr.charAt(i);
-
-            if (i <= lastIndexOfWhole) {
-                newWholeStr += Character.toString(character);
-            } else {
-                newDecimalStr += Character.toString(character);
-            }
+            long sum = (subtractThat) 
+                    ? Math.subtractExact(thisUnscaled, thatUnscaled)
+                    : Math.addExact(thisUnscaled, thatUnscaled);
+            
+            return toMoney(sum, scale);
+        } catch (ArithmeticException overflow) {
+            reportBigIntegerFallback();
+            BigInteger thisUnscaled = bigUnscaledOf(getThisMoney(), scale);
+            BigInteger thatUnscaled = bigUnscaledOf(getThatMoney(), scale);
+            
+            BigInteger sum = (subtractThat) 
+                    ? thisUnscaled.subtract(thatUnscaled)
+                    : thisUnscaled.add(thatUnscaled);
+            
+            return toMoney(sum, scale);
         }
-
-        // Then determine the number of leading zeroes for newDecimalStr
-        newLeadingZeroes = StringUtil.countLeadingZeros(newDecimalStr);
-        
-        // Remove any leading zeroes
-        newDecimalStr = StringUtil.removeAnyLeadingZeroes(newDecimalStr);
-
-        // Get the long value
-        // If string is empty, it means zero
-        newWholeUnit = ((newWholeStr.isEmpty()) ? 0:Long.valueOf(newWholeStr));
-        newDecimalUnit = ((newDecimalStr.isEmpty()) ? 0:Long.valueOf(newDecimalStr));
-        
-        
-        return new Money.Builder()
-                .currencyCode(getThisMoney().getCurrencyCode())
-                .sign(newSign)
-                .wholeUnit(newWholeUnit)
-                .decimalUnit(newDecimalUnit)
-                .leadingDecimalZeroes(newLeadingZeroes)
-                .build();
     }
-
-
-    
     
 }
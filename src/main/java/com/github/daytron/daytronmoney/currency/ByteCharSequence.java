@@ -0,0 +1,132 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.currency;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p><code>CharSequence</code> view of ASCII or UTF-8 encoded bytes 
+ * in a <code>byte</code> array or a <code>ByteBuffer</code>, so that 
+ * <code>MoneyParser</code> can read bytes without decoding them into a 
+ * <code>String</code>.
+ * 
+ * <p>Each byte is one character. Bytes of multi-byte UTF-8 characters are 
+ * never digits, signs, dots, commas or whitespace, so they are only 
+ * decoded when a sub-sequence such as a currency code becomes a 
+ * <code>String</code>. The view is not thread-safe, so each parse creates 
+ * its own.
+ * 
+ * @author Ryan Gilera
+ */
+final class ByteCharSequence implements CharSequence {
+    
+    private byte[] array;
+    private ByteBuffer buffer;
+    private int offset;
+    private int length;
+    
+    /**
+     * Views the bytes of an array from <code>offset</code> 
+     * to <code>offset + length</code>.
+     * 
+     * @param array <code>byte</code> array to view
+     * @param offset Index of the first byte
+     * @param length Number of bytes
+     * @return This view
+     */
+    ByteCharSequence reset(byte[] array, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > array.length - length) {
+            throw new IndexOutOfBoundsException("Invalid offset or length.");
+        }
+        
+        this.array = array;
+        this.buffer = null;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+    
+    /**
+     * Views the remaining bytes of a buffer, from its position to its 
+     * limit. The position of the buffer is not changed.
+     * 
+     * @param buffer <code>ByteBuffer</code> to view
+     * @return This view
+     */
+    ByteCharSequence reset(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return reset(buffer.array(), 
+                    buffer.arrayOffset() + buffer.position(), 
+                    buffer.remaining());
+        }
+        
+        this.array = null;
+        this.buffer = buffer;
+        this.offset = buffer.position();
+        this.length = buffer.remaining();
+        return this;
+    }
+    
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index out of range: " 
+                    + index);
+        }
+        
+        byte value = (array != null) ? array[offset + index] : 
+                buffer.get(offset + index);
+        return (char) (value & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("Invalid start or end.");
+        }
+        
+        if (array != null) {
+            return new String(array, offset + start, end - start, 
+                    StandardCharsets.UTF_8);
+        }
+        
+        byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(offset + start + i);
+        }
+        
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return subSequence(0, length).toString();
+    }
+}
@@ -0,0 +1,184 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.currency;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A <code>MoneyMetrics</code> implementation counting operations, 
+ * <code>BigInteger</code> fallbacks and parse failures with 
+ * <code>LongAdder</code> counters, and recording a sample of the 
+ * latencies in a histogram per operation type.
+ * 
+ * <p>The histogram has power-of-two buckets: bucket 0 counts latencies 
+ * of zero nanoseconds and bucket <code>i</code> counts latencies from 
+ * 2<sup>i-1</sup> up to 2<sup>i</sup> nanoseconds. On average one in every 
+ * <code>sampleInterval</code> operations is timed.</p>
+ * 
+ * @author Ryan Gilera
+ */
+public class CountingMoneyMetrics implements MoneyMetrics {
+    
+    /**
+     * The sample interval used by the no-argument constructor.
+     */
+    public static final int DEFAULT_SAMPLE_INTERVAL = 64;
+    
+    /**
+     * The number of buckets of a latency histogram.
+     */
+    public static final int HISTOGRAM_BUCKETS = Long.SIZE;
+    
+    private static final int OPERATIONS = Operation.values().length;
+    
+    private final int sampleMask;
+    private final LongAdder[] completed = createAdders(OPERATIONS);
+    private final LongAdder[] fallbacks = createAdders(OPERATIONS);
+    private final LongAdder[][] latencies = new LongAdder[OPERATIONS][];
+    private final LongAdder parseFailures = new LongAdder();
+    
+    /**
+     * Creates metrics timing one in 64 operations.
+     */
+    public CountingMoneyMetrics() {
+        this(DEFAULT_SAMPLE_INTERVAL);
+    }
+    
+    /**
+     * Creates metrics timing one in every <code>sampleInterval</code> 
+     * operations. An interval of one times every operation.
+     * 
+     * @param sampleInterval Power of two
+     */
+    public CountingMoneyMetrics(int sampleInterval) {
+        if (sampleInterval <= 0 || Integer.bitCount(sampleInterval) != 1) {
+            throw new IllegalArgumentException(
+                    "Sample interval must be a power of two.");
+        }
+        
+        this.sampleMask = sampleInterval - 1;
+        for (int i = 0; i < OPERATIONS; i++) {
+            latencies[i] = createAdders(HISTOGRAM_BUCKETS);
+        }
+    }
+    
+    private static LongAdder[] createAdders(int size) {
+        LongAdder[] adders = new LongAdder[size];
+        for (int i = 0; i < size; i++) {
+            adders[i] = new LongAdder();
+        }
+        
+        return adders;
+    }
+
+    @Override
+    public boolean isTimed(Operation operation) {
+        return sampleMask == 0 
+                || (ThreadLocalRandom.current().nextInt() & sampleMask) == 0;
+    }
+
+    @Override
+    public void operationCompleted(Operation operation, long nanos) {
+        completed[operation.ordinal()].increment();
+        
+        if (nanos >= 0) {
+            int bucket = Long.SIZE - Long.numberOfLeadingZeros(nanos);
+            latencies[operation.ordinal()][bucket].increment();
+        }
+    }
+
+    @Override
+    public void bigIntegerFallback(Operation operation) {
+        fallbacks[operation.ordinal()].increment();
+    }
+
+    @Override
+    public void parseFailed() {
+        parseFailures.increment();
+    }
+    
+    /**
+     * Returns the number of completed operations of a type.
+     * 
+     * @param operation Type of operation
+     * @return <code>long</code> value
+     */
+    public long getCompletedCount(Operation operation) {
+        return completed[operation.ordinal()].sum();
+    }
+    
+    /**
+     * Returns the number of operations of a type that fell back to 
+     * <code>BigInteger</code> or <code>BigDecimal</code> arithmetic.
+     * 
+     * @param operation Type of operation
+     * @return <code>long</code> value
+     */
+    public long getBigIntegerFallbackCount(Operation operation) {
+        return fallbacks[operation.ordinal()].sum();
+    }
+    
+    /**
+     * Returns the number of amounts that could not be parsed.
+     * 
+     * @return <code>long</code> value
+     */
+    public long getParseFailureCount() {
+        return parseFailures.sum();
+    }
+    
+    /**
+     * Returns a copy of the latency histogram of an operation type, with 
+     * <code>HISTOGRAM_BUCKETS</code> buckets.
+     * 
+     * @param operation Type of operation
+     * @return <code>long</code> array of the sampled counts per bucket
+     */
+    public long[] getLatencyHistogram(Operation operation) {
+        LongAdder[] buckets = latencies[operation.ordinal()];
+        long[] histogram = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            histogram[i] = buckets[i].sum();
+        }
+        
+        return histogram;
+    }
+    
+    /**
+     * Resets all counters and histograms to zero. Operations completing 
+     * during the reset may or may not be counted.
+     */
+    public void reset() {
+        for (int i = 0; i < OPERATIONS; i++) {
+            completed[i].reset();
+            fallbacks[i].reset();
+            for (LongAdder bucket : latencies[i]) {
+                bucket.reset();
+            }
+        }
+        
+        parseFailures.reset();
+    }
+}
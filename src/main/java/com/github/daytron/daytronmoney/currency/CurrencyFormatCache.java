@@ -0,0 +1,90 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.currency;
+
+import java.math.RoundingMode;
+import java.text.NumberFormat;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Per-thread cache of the currency <code>NumberFormat</code> objects used by 
+ * <code>Money.toString</code>, keyed by <code>Locale</code> and currency. 
+ * <code>NumberFormat</code> objects are not thread-safe, so each thread 
+ * keeps its own instances.
+ * 
+ * @author Ryan Gilera
+ */
+final class CurrencyFormatCache {
+    
+    private static final ThreadLocal<Map<Locale, NumberFormat[]>> FORMATS = 
+            new ThreadLocal<Map<Locale, NumberFormat[]>>() {
+                @Override
+                protected Map<Locale, NumberFormat[]> initialValue() {
+                    return new HashMap<>();
+                }
+            };
+    
+    private CurrencyFormatCache() {
+    }
+    
+    /**
+     * Returns the currency format of a <code>Locale</code> for the given 
+     * currency, which shows the default fraction digits of the currency and 
+     * discards any further digits. The returned object must only be used by
+     * the calling thread.
+     * 
+     * @param locale <code>Locale</code> of the format
+     * @param currency <code>CurrencyRegistry.Entry</code> of the currency
+     * @return <code>NumberFormat</code> object
+     */
+    static NumberFormat getCurrencyFormat(Locale locale, 
+            CurrencyRegistry.Entry currency) {
+        Map<Locale, NumberFormat[]> formatsByLocale = FORMATS.get();
+        NumberFormat[] formats = formatsByLocale.get(locale);
+        
+        int ordinal = currency.getOrdinal();
+        if (formats == null || formats.length <= ordinal) {
+            NumberFormat[] newFormats = new NumberFormat[ordinal + 1];
+            if (formats != null) {
+                System.arraycopy(formats, 0, newFormats, 0, formats.length);
+            }
+            
+            formats = newFormats;
+            formatsByLocale.put(locale, formats);
+        }
+        
+        NumberFormat format = formats[ordinal];
+        if (format == null) {
+            format = NumberFormat.getCurrencyInstance(locale);
+            format.setCurrency(currency.getCurrency());
+            format.setRoundingMode(RoundingMode.DOWN);
+            formats[ordinal] = format;
+        }
+        
+        return format;
+    }
+    
+}
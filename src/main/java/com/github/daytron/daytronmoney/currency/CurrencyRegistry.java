@@ -0,0 +1,203 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.currency;
+
+import java.util.Currency;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the currencies used by <code>Money</code> objects. Each ISO 4217
+ * currency code is resolved once into an interned {@link Entry} with an 
+ * ordinal, so creating <code>Money</code> objects never repeats the 
+ * <code>Currency</code> lookup and each object only has to hold the ordinal.
+ * 
+ * @author Ryan Gilera
+ */
+public final class CurrencyRegistry {
+    
+    // Keyed by every spelling of a currency code seen so far, so lower case
+    // input is only upper-cased once
+    private static final Map<String, Entry> ENTRIES = 
+            new ConcurrentHashMap<>();
+    private static volatile Entry[] entriesByOrdinal = new Entry[0];
+    private static final Entry DEFAULT_ENTRY = of(Locale.getDefault());
+    
+    private CurrencyRegistry() {
+    }
+    
+    /**
+     * A resolved currency with its ordinal in the registry.
+     */
+    public static final class Entry {
+        
+        private final Currency currency;
+        private final String currencyCode;
+        private final short ordinal;
+        
+        // Shared whole values of this currency, created on first use
+        private volatile Money[] cachedValues;
+        
+        private Entry(Currency currency, short ordinal) {
+            this.currency = currency;
+            this.currencyCode = currency.getCurrencyCode();
+            this.ordinal = ordinal;
+        }
+        
+        /**
+         * Returns the <code>Currency</code> object.
+         * 
+         * @return <code>Currency</code> object
+         */
+        public Currency getCurrency() {
+            return currency;
+        }
+        
+        /**
+         * Returns the upper case ISO 4217 currency code.
+         * 
+         * @return <code>String</code> object
+         */
+        public String getCurrencyCode() {
+            return currencyCode;
+        }
+        
+        /**
+         * Returns the ordinal of this entry in the registry.
+         * 
+         * @return <code>integer</code> value
+         */
+        public int getOrdinal() {
+            return ordinal;
+        }
+        
+        /**
+         * Returns the default number of fraction digits of the currency, or 
+         * -1 for pseudo-currencies.
+         * 
+         * @return <code>integer</code> value
+         */
+        public int getDefaultFractionDigits() {
+            return currency.getDefaultFractionDigits();
+        }
+        
+        Money[] getCachedValues() {
+            return cachedValues;
+        }
+        
+        void setCachedValues(Money[] cachedValues) {
+            this.cachedValues = cachedValues;
+        }
+        
+        @Override
+        public String toString() {
+            return currencyCode;
+        }
+    }
+    
+    /**
+     * Returns the entry of a currency code. The code is not case sensitive.
+     * Throws an <code>IllegalArgumentException</code> if it is not a 
+     * supported ISO 4217 code.
+     * 
+     * @param currencyCode A <code>String</code> object of the currency code
+     * @return <code>Entry</code> object
+     */
+    public static Entry of(String currencyCode) {
+        Entry entry = ENTRIES.get(currencyCode);
+        if (entry != null) {
+            return entry;
+        }
+        
+        entry = register(Currency.getInstance(currencyCode.toUpperCase()));
+        ENTRIES.putIfAbsent(currencyCode, entry);
+        return entry;
+    }
+    
+    /**
+     * Returns the entry of a <code>Currency</code> object.
+     * 
+     * @param currency A <code>Currency</code> object
+     * @return <code>Entry</code> object
+     */
+    public static Entry of(Currency currency) {
+        Entry entry = ENTRIES.get(currency.getCurrencyCode());
+        return (entry != null) ? entry : register(currency);
+    }
+    
+    /**
+     * Returns the entry of the currency of a country <code>Locale</code>.
+     * 
+     * @param locale A <code>Locale</code> country constant
+     * @return <code>Entry</code> object
+     */
+    public static Entry of(Locale locale) {
+        return of(Currency.getInstance(locale));
+    }
+    
+    /**
+     * Returns the entry of the currency of the default <code>Locale</code>.
+     * 
+     * @return <code>Entry</code> object
+     */
+    public static Entry getDefault() {
+        return DEFAULT_ENTRY;
+    }
+    
+    /**
+     * Returns the entry with the given ordinal.
+     * 
+     * @param ordinal Ordinal of a registered entry
+     * @return <code>Entry</code> object
+     */
+    public static Entry ofOrdinal(int ordinal) {
+        return entriesByOrdinal[ordinal];
+    }
+    
+    private static synchronized Entry register(Currency currency) {
+        Entry entry = ENTRIES.get(currency.getCurrencyCode());
+        if (entry != null) {
+            return entry;
+        }
+        
+        Entry[] oldEntries = entriesByOrdinal;
+        if (oldEntries.length > Short.MAX_VALUE) {
+            throw new IllegalStateException("Too many currency codes.");
+        }
+        
+        entry = new Entry(currency, (short) oldEntries.length);
+        Entry[] newEntries = new Entry[oldEntries.length + 1];
+        System.arraycopy(oldEntries, 0, newEntries, 0, oldEntries.length);
+        newEntries[oldEntries.length] = entry;
+        
+        // Publish the entry by ordinal before by code, so any ordinal read 
+        // from an entry is always valid
+        entriesByOrdinal = newEntries;
+        ENTRIES.put(entry.getCurrencyCode(), entry);
+        
+        return entry;
+    }
+    
+}
@@ -23,9 +23,10 @@
  */
 package com.github.daytron.daytronmoney.currency;
 
-import com.github.daytron.daytronmoney.utility.ConversionTypeUtil;
-import com.github.daytron.daytronmoney.utility.StringUtil;
-import java.math.BigInteger;
+import com.github.daytron.daytronmoney.utility.ArithmeticUtil;
+import com.github.daytron.daytronmoney.utility.Int128;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 /**
  * A <code>MoneyOperation</code> subclass implementing division operation
@@ -35,6 +36,19 @@ import java.math.BigInteger;
  */
 class Division extends MoneyOperation {
     
+    /**
+     * The number of decimal places kept when no scale is given.
+     */
+    static final int DEFAULT_SCALE = 18;
+    
+    /**
+     * The rounding mode applied when no rounding mode is given.
+     */
+    static final RoundingMode DEFAULT_ROUNDING_MODE = RoundingMode.DOWN;
+    
+    private final int scale;
+    private final RoundingMode roundingMode;
+    
     /**
      * Constructor for accepting two <code>Money</code> objects for division.
      * 
@@ -42,17 +56,58 @@ class Division extends MoneyOperation {
      * @param thatMoney A <code>Money</code> object
      */
     protected Division(Money thisMoney, Money thatMoney) {
+        this(thisMoney, thatMoney, DEFAULT_SCALE, DEFAULT_ROUNDING_MODE);
+    }
+    
+    /**
+     * Constructor for accepting two <code>Money</code> objects for division,
+     * with the number of decimal places to keep and how to round the rest.
+     * 
+     * @param thisMoney A <code>Money</code> object
+     * @param thatMoney A <code>Money</code> object
+     * @param scale Number of decimal places of the quotient
+     * @param roundingMode <code>RoundingMode</code> for the discarded digits
+     */
+    protected Division(Money thisMoney, Money thatMoney, int scale, 
+            RoundingMode roundingMode) {
         super(thisMoney, thatMoney);
+        
+        if (scale < 0) {
+            throw new IllegalArgumentException("Negative scale.");
+        }
+        
+        if (roundingMode == null) {
+            throw new NullPointerException("Cannot accept null rounding mode.");
+        }
+        
+        this.scale = scale;
+        this.roundingMode = roundingMode;
     }
 
     /**
-     * Implements execute method from it's super class. Division operation of 
+     * Implements getOperation method from it's super class.
+     * 
+     * @return <code>MoneyMetrics.Operation</code> value
+     */
+    @Override
+    protected MoneyMetrics.Operation getOperation() {
+        return MoneyMetrics.Operation.DIVISION;
+    }
+    
+    /**
+     * Implements calculate method from it's super class. Division operation of 
      * two <code>Money</code> objects.
      * 
+     * <p>The whole unit is the integer quotient of the aligned unscaled 
+     * values. The decimal digits are the exact quotient of the remainder
+     * scaled up to the requested decimal places, rounded with the rounding 
+     * mode. Falls back to <code>BigDecimal</code> only when the operands or 
+     * the decimal digits do not fit into <code>long</code> values.
+     * 
      * @return A <code>Money</code> object representing the quotient. 
      */
     @Override
-    public Money execute() {
+    protected Money calculate() {
         if (getThatMoney() == null) {
             throw new NullPointerException("Cannot divide by Null value.");
         }
@@ -62,65 +117,78 @@ class Division extends MoneyOperation {
         }
         
         if (getThisMoney().isZero()) {
-            return new Money.Builder()
-                    .currencyCode(getThisMoney().getCurrencyCode())
-                    .sign(SignValue.Positive)
-                    .build();
+            return Money.valueOf(0, getThisMoney().getCurrency());
         }
 
-        long newWholeUnit, newDecimalUnit, newLeadingZeroes;
-        SignValue newSign;
+        final SignValue newSign = (getThisMoney().getSign() == 
+                getThatMoney().getSign()) ? SignValue.Positive : 
+                SignValue.Negative;
+        final int alignedScale = Math.max(scaleOf(getThisMoney()), 
+                scaleOf(getThatMoney()));
         
-        SignValue thisSign = getThisMoney().getSign();
-        SignValue thatSign = getThatMoney().getSign();
+        if (scale > ArithmeticUtil.MAX_LONG_SCALE) {
+            return divideWithBigDecimal();
+        }
         
+        long dividend, divisor;
+        try {
+            dividend = Math.abs(unscaledOf(getThisMoney(), alignedScale));
+            divisor = Math.abs(unscaledOf(getThatMoney(), alignedScale));
+        } catch (ArithmeticException overflow) {
+            return divideWithBigDecimal();
+        }
         
-        final BigInteger[] resultArray = ConversionTypeUtil
-                    .concatWholeAndDecThenConvertBigInteger(getThisMoney(), getThatMoney());
-        // Cutoff decimal is not needed here
-        final BigInteger concatThisBigInt = resultArray[1];
-        final BigInteger concatThatBigInt = resultArray[2];
+        long wholeUnit = dividend / divisor;
+        long remainder = dividend % divisor;
         
-        // Determine sign first
-        if (thisSign == SignValue.Negative && thatSign == SignValue.Positive) {
-            newSign = SignValue.Negative;
-        } else if (thatSign == SignValue.Negative && thisSign == SignValue.Positive) {
-            newSign = SignValue.Negative;
-        } else if (thisSign == SignValue.Negative && thatSign == SignValue.Negative){
-            newSign = SignValue.Positive;
+        // Decimal digits are (remainder * 10^scale) / divisor, which is 
+        // always less than 10^scale
+        long scaledHigh = Int128.multiplyHigh(remainder, 
+                ArithmeticUtil.powerOfTen(scale));
+        long scaledLow = remainder * ArithmeticUtil.powerOfTen(scale);
+        long decimalUnit, decimalRemainder;
+        if (scaledHigh == 0 && scaledLow >= 0) {
+            decimalUnit = scaledLow / divisor;
+            decimalRemainder = scaledLow % divisor;
         } else {
-            // Either sign of the two values, since they are equal
-            newSign = thisSign;
+            Int128 scaledRemainder = new Int128(scaledHigh, scaledLow);
+            decimalRemainder = scaledRemainder.divideAndRemainder(divisor);
+            decimalUnit = scaledRemainder.longValue();
         }
         
-        BigInteger[] resultBigInt = concatThisBigInt.divideAndRemainder(concatThatBigInt);
-        String newWholeStr, newDecimalStr;
-        newWholeStr = resultBigInt[0].toString();
-        
-        // Get decimal part
-        long dividend = resultBigInt[1].longValue();
-        long divisor = concatThatBigInt.longValue();
-        double newDecimal = dividend / (divisor * 1.0);
+        long lastDigits = (scale == 0) ? wholeUnit : decimalUnit;
+        if (isRoundedAway(lastDigits, decimalRemainder, divisor, newSign, 
+                roundingMode)) {
+            decimalUnit++;
+            
+            if (decimalUnit == ArithmeticUtil.powerOfTen(scale)) {
+                decimalUnit = 0;
+                wholeUnit = Math.addExact(wholeUnit, 1);
+            }
+        }
         
-        newDecimalStr = String.format("%.19f", newDecimal);
-        newDecimalStr = newDecimalStr.substring(newDecimalStr.indexOf(".") + 1, 
-                newDecimalStr.length()-1);
+        return toStrippedMoney(newSign, wholeUnit, decimalUnit, scale);
+    }
+    
+    /**
+     * Divides with <code>BigDecimal</code> for values beyond the range of 
+     * <code>long</code> arithmetic.
+     * 
+     * @return A <code>Money</code> object representing the quotient. 
+     */
+    private Money divideWithBigDecimal() {
+        reportBigIntegerFallback();
         
-        newLeadingZeroes = StringUtil.countLeadingZeros(newDecimalStr);
-        newDecimalStr = StringUtil.removeAnyLeadingAndTrailingZeroes(newDecimalStr);
+        int thisScale = scaleOf(getThisMoney());
+        int thatScale = scaleOf(getThatMoney());
         
-        // Get the long value
-        // If string is empty, it means zero
-        newWholeUnit = ((newWholeStr.isEmpty())?0:Long.valueOf(newWholeStr));
-        newDecimalUnit = ((newDecimalStr.isEmpty())?0:Long.valueOf(newDecimalStr));
+        BigDecimal quotient = new BigDecimal(
+                bigUnscaledOf(getThisMoney(), thisScale), thisScale)
+                .divide(new BigDecimal(
+                        bigUnscaledOf(getThatMoney(), thatScale), thatScale), 
+                        scale, roundingMode);
         
-        return new Money.Builder()
-                .currencyCode(getThisMoney().getCurrencyCode())
-                .sign(newSign)
-                .wholeUnit(newWholeUnit)
-                .decimalUnit(newDecimalUnit)
-                .leadingDecimalZeroes(newLeadingZeroes)
-                .build();
+        return toStrippedMoney(quotient.unscaledValue(), scale);
     }
     
 }
@@ -0,0 +1,69 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.currency;
+
+/**
+ * Holds the installed <code>MoneyMetrics</code> of the package.
+ * 
+ * <p>The default metrics is a single final class doing nothing, so the JIT 
+ * inlines its empty methods and removes the calls and the timing guarded 
+ * by <code>isTimed</code>, leaving only the read of the field.</p>
+ * 
+ * @author Ryan Gilera
+ */
+final class Metrics {
+    
+    /**
+     * Metrics recording nothing.
+     */
+    static final MoneyMetrics NONE = new NoMetrics();
+    
+    /**
+     * The installed metrics.
+     */
+    static volatile MoneyMetrics installed = NONE;
+
+    private Metrics() {
+    }
+    
+    private static final class NoMetrics implements MoneyMetrics {
+
+        @Override
+        public boolean isTimed(Operation operation) {
+            return false;
+        }
+
+        @Override
+        public void operationCompleted(Operation operation, long nanos) {
+        }
+
+        @Override
+        public void bigIntegerFallback(Operation operation) {
+        }
+
+        @Override
+        public void parseFailed() {
+        }
+    }
+}
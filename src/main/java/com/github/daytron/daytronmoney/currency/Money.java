@@ -24,11 +24,12 @@
 package com.github.daytron.daytronmoney.currency;
 
 import com.github.daytron.daytronmoney.exception.CurrencyDidNotMatchException;
-import com.github.daytron.daytronmoney.utility.ConversionTypeUtil;
+import com.github.daytron.daytronmoney.utility.ArithmeticUtil;
+import java.io.IOException;
+import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.text.NumberFormat;
-import java.util.Currency;
 import java.util.Locale;
 import java.util.Objects;
 
@@ -41,16 +42,37 @@ import java.util.Objects;
  */
 public final class Money {
 
-    private static final String DEFAULT_CURRENCY_CODE
-            = Currency.getInstance(Locale.getDefault()).getCurrencyCode();
-    private static final String ZERO_STRING = "0";
-    private static final String DECIMAL_POINT = ".";
-
-    private final String currencyCode;
-    private final long wholeUnit;
-    private final long decimalUnit;
-    private final long leadingDecimalZeros;
-    private final SignValue sign;
+    /**
+     * Name of the system property that raises the upper bound of the whole
+     * values shared per currency, which is 127 by default.
+     */
+    public static final String CACHE_HIGH_PROPERTY = 
+            "daytronmoney.money.cache.high";
+    
+    /**
+     * The maximum number of decimal places accepted by the 
+     * <code>Builder</code> for values with a whole unit.
+     */
+    static final int MAX_SCALE = 1000;
+    
+    private static final CurrencyRegistry.Entry DEFAULT_CURRENCY
+            = CurrencyRegistry.getDefault();
+    private static final int CACHE_LOW = -128;
+    private static final int CACHE_HIGH = readCacheHigh();
+    private static final char ZERO_CHARACTER = '0';
+    private static final char DECIMAL_POINT_CHARACTER = '.';
+    private static final char SIGN_CHARACTER = '-';
+
+    // The value is unscaledValue / 10^scale, or inflatedValue / 10^scale 
+    // when it does not fit into a long. Values without decimal digits always
+    // have a scale of zero.
+    private final long unscaledValue;
+    private final BigInteger inflatedValue;
+    private final int scale;
+    private final short currencyIndex;
+    
+    // Cached hash code, or 0 if not yet computed
+    private int hashCode;
 
     /**
      * A private constructor to delegate object creation to its static nested 
@@ -60,11 +82,188 @@ public final class Money {
      * @param moneyBuilder Static nested builder class object
      */
     private Money(Builder moneyBuilder) {
-        this.currencyCode = moneyBuilder.bCurrencyCode;
-        this.decimalUnit = moneyBuilder.bDecimalUnit;
-        this.wholeUnit = moneyBuilder.bWholeUnit;
-        this.leadingDecimalZeros = moneyBuilder.bLeadingDecimalZeros;
-        this.sign = moneyBuilder.bSign;
+        this.currencyIndex = (short) moneyBuilder.bCurrency.getOrdinal();
+        this.scale = (moneyBuilder.bDecimalUnit == 0) ? 0 : 
+                (int) moneyBuilder.bLeadingDecimalZeros 
+                + ArithmeticUtil.digitCount(moneyBuilder.bDecimalUnit);
+        
+        boolean isNegative = moneyBuilder.bSign == SignValue.Negative;
+        long magnitude = compactMagnitude(moneyBuilder.bWholeUnit, 
+                moneyBuilder.bDecimalUnit, scale);
+        if (magnitude >= 0) {
+            this.unscaledValue = isNegative ? -magnitude : magnitude;
+            this.inflatedValue = null;
+        } else {
+            BigInteger bigMagnitude = bigMagnitude(moneyBuilder.bWholeUnit, 
+                    moneyBuilder.bDecimalUnit, scale);
+            this.unscaledValue = 0;
+            this.inflatedValue = isNegative ? bigMagnitude.negate() : 
+                    bigMagnitude;
+        }
+    }
+    
+    /**
+     * A private constructor for values already in the internal form.
+     * 
+     * @param unscaledValue Signed unscaled value, ignored when inflated
+     * @param inflatedValue Signed unscaled value that does not fit into a 
+     * <code>long</code> value, or null
+     * @param scale Number of decimal places
+     * @param currencyIndex Index of the currency code
+     */
+    private Money(long unscaledValue, BigInteger inflatedValue, int scale, 
+            short currencyIndex) {
+        this.unscaledValue = unscaledValue;
+        this.inflatedValue = inflatedValue;
+        this.scale = scale;
+        this.currencyIndex = currencyIndex;
+    }
+    
+    /**
+     * Returns a whole number <code>Money</code> object of the given currency.
+     * Values from -128 to 127, or up to the bound set with the 
+     * {@link #CACHE_HIGH_PROPERTY} system property, are shared instances.
+     * 
+     * @param value <code>long</code> value of the whole number
+     * @param currency <code>CurrencyRegistry.Entry</code> of the currency
+     * @return <code>Money</code> object
+     */
+    public static Money valueOf(long value, CurrencyRegistry.Entry currency) {
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+            Money[] cachedValues = currency.getCachedValues();
+            if (cachedValues == null) {
+                cachedValues = createCachedValues(currency);
+                currency.setCachedValues(cachedValues);
+            }
+            
+            return cachedValues[(int) value - CACHE_LOW];
+        }
+        
+        // The whole unit of -2^63 does not fit into a long value
+        if (value == Long.MIN_VALUE) {
+            throw new IllegalArgumentException("Value exceeds the range of "
+                    + "Money.");
+        }
+        
+        return new Money(value, null, 0, (short) currency.getOrdinal());
+    }
+    
+    /**
+     * Trusted factory for values that are already normalized, such as the 
+     * results of arithmetic operations. Skips the validation of the 
+     * <code>Builder</code>. Values without decimal digits become whole 
+     * numbers with a scale of zero.
+     * 
+     * @param unscaledValue Signed unscaled value, other than 
+     * <code>Long.MIN_VALUE</code>
+     * @param scale Non-negative number of decimal places
+     * @param currency <code>CurrencyRegistry.Entry</code> of the currency
+     * @return <code>Money</code> object
+     */
+    static Money ofUnscaled(long unscaledValue, int scale, 
+            CurrencyRegistry.Entry currency) {
+        if (scale == 0 || unscaledValue == 0) {
+            return valueOf(unscaledValue, currency);
+        }
+        
+        // Any long value is less than 10^19
+        if (scale <= ArithmeticUtil.MAX_LONG_SCALE) {
+            long divisor = ArithmeticUtil.powerOfTen(scale);
+            if (unscaledValue % divisor == 0) {
+                return valueOf(unscaledValue / divisor, currency);
+            }
+        }
+        
+        return new Money(unscaledValue, null, scale, 
+                (short) currency.getOrdinal());
+    }
+    
+    /**
+     * Trusted factory for values that are already normalized and split into 
+     * units, such as the results of arithmetic operations. Skips the 
+     * validation of the <code>Builder</code>.
+     * 
+     * @param sign <code>SignValue</code> of a non-zero value
+     * @param wholeUnit Non-negative whole unit
+     * @param decimalUnit Positive decimal digits, less than 10^scale
+     * @param scale Number of decimal places
+     * @param currency <code>CurrencyRegistry.Entry</code> of the currency
+     * @return <code>Money</code> object
+     */
+    static Money ofUnits(SignValue sign, long wholeUnit, long decimalUnit, 
+            int scale, CurrencyRegistry.Entry currency) {
+        boolean isNegative = sign == SignValue.Negative;
+        short index = (short) currency.getOrdinal();
+        long magnitude = compactMagnitude(wholeUnit, decimalUnit, scale);
+        if (magnitude >= 0) {
+            return new Money(isNegative ? -magnitude : magnitude, null, scale,
+                    index);
+        }
+        
+        BigInteger bigMagnitude = bigMagnitude(wholeUnit, decimalUnit, scale);
+        return new Money(0, isNegative ? bigMagnitude.negate() : bigMagnitude,
+                scale, index);
+    }
+    
+    private static Money[] createCachedValues(CurrencyRegistry.Entry currency) {
+        short currencyIndex = (short) currency.getOrdinal();
+        Money[] cachedValues = new Money[CACHE_HIGH - CACHE_LOW + 1];
+        for (int i = 0; i < cachedValues.length; i++) {
+            cachedValues[i] = new Money(i + CACHE_LOW, null, 0, currencyIndex);
+        }
+        
+        return cachedValues;
+    }
+    
+    private static int readCacheHigh() {
+        int high = 127;
+        String property = System.getProperty(CACHE_HIGH_PROPERTY);
+        if (property != null) {
+            try {
+                high = Math.max(high, Integer.parseInt(property.trim()));
+            } catch (NumberFormatException ignored) {
+                // Keeps the default bound
+            }
+        }
+        
+        // Keeps the size of each cache within the maximum array length
+        return Math.min(high, Integer.MAX_VALUE + CACHE_LOW - 2);
+    }
+
+    /**
+     * Combines the whole and decimal units into an unscaled magnitude.
+     * 
+     * @param wholeUnit Non-negative whole unit
+     * @param decimalUnit Non-negative decimal unit
+     * @param scale Number of decimal places
+     * @return <code>long</code> value, or -1 if it does not fit into a 
+     * <code>long</code> value
+     */
+    private static long compactMagnitude(long wholeUnit, long decimalUnit, 
+            int scale) {
+        if (wholeUnit == 0) {
+            return decimalUnit;
+        }
+        
+        if (scale > ArithmeticUtil.MAX_LONG_SCALE) {
+            return -1;
+        }
+        
+        // Checked up front, since large parsed values overflow often and 
+        // an exception per value is costly
+        long power = ArithmeticUtil.powerOfTen(scale);
+        if (wholeUnit > (Long.MAX_VALUE - decimalUnit) / power) {
+            return -1;
+        }
+        
+        return wholeUnit * power + decimalUnit;
+    }
+
+    private static BigInteger bigMagnitude(long wholeUnit, long decimalUnit, 
+            int scale) {
+        return BigInteger.valueOf(wholeUnit)
+                .multiply(BigInteger.TEN.pow(scale))
+                .add(BigInteger.valueOf(decimalUnit));
     }
 
     /***
@@ -72,7 +271,7 @@ public final class Money {
      */
     public static final class Builder {
 
-        private String bCurrencyCode;
+        private CurrencyRegistry.Entry bCurrency;
         private long bWholeUnit;
         private long bDecimalUnit;
         private long bLeadingDecimalZeros;
@@ -83,7 +282,7 @@ public final class Money {
          */
         public Builder() {
             // Default values
-            this.bCurrencyCode = DEFAULT_CURRENCY_CODE;
+            this.bCurrency = DEFAULT_CURRENCY;
             this.bSign = SignValue.Positive;
             this.bWholeUnit = 0;
             this.bDecimalUnit = 0;
@@ -145,8 +344,22 @@ public final class Money {
          * @return this Builder object
          */
         public Builder currencyCode(String aCurrencyCode) {
-            this.bCurrencyCode = Currency.getInstance(
-                aCurrencyCode.toUpperCase()).getCurrencyCode();
+            this.bCurrency = CurrencyRegistry.of(aCurrencyCode);
+            return this;
+        }
+
+        /**
+         * Sets the currency with an already resolved registry entry.
+         * 
+         * @param aCurrency CurrencyRegistry.Entry object
+         * @return this Builder object
+         */
+        public Builder currency(CurrencyRegistry.Entry aCurrency) {
+            if (aCurrency == null) {
+                throw new NullPointerException("Cannot accept null currency.");
+            }
+            
+            this.bCurrency = aCurrency;
             return this;
         }
 
@@ -157,32 +370,42 @@ public final class Money {
          * @return Money object
          */
         public Money build() {
-            Money bMoney = new Money(this);
-
             // Check if leadingZeroInput is negative, then throw exception
-            if (bMoney.getLeadingDecimalZeros() < 0) {
+            if (bLeadingDecimalZeros < 0) {
                 throw new IllegalStateException("Negative leading zero input.");
             }
 
             // Prevent negative zero money
-            if (bMoney.getWholeUnit() == 0 && bMoney.getDecimalUnit() == 0 && 
-                    bMoney.isNegative()) {
+            if (bWholeUnit == 0 && bDecimalUnit == 0 && 
+                    bSign == SignValue.Negative) {
                 throw new IllegalStateException("Zero money cannot be negative.");
             } else {
                 // Prevent negative values, force to use SignValue instead
-                if (bMoney.getWholeUnit() < 0 || bMoney.getDecimalUnit() < 0) {
+                if (bWholeUnit < 0 || bDecimalUnit < 0) {
                     throw new IllegalStateException("Negative unit values. Use "
                             + "SignValue instead.");
                 } 
             }
 
-            if (bMoney.getDecimalUnit() == 0 && 
-                    bMoney.getLeadingDecimalZeros() > 0) {
+            if (bDecimalUnit == 0 && bLeadingDecimalZeros > 0) {
                     throw new IllegalStateException("Abnormal leading zeros with "
                             + "zero decimal value.");
             }
+            
+            // The number of decimal places must fit into an integer value
+            if (bLeadingDecimalZeros > Integer.MAX_VALUE 
+                    - ArithmeticUtil.digitCount(Long.MAX_VALUE)) {
+                throw new IllegalStateException("Too many leading zeros.");
+            }
+            
+            // Large scales make the unscaled value of any whole unit huge
+            if (bWholeUnit != 0 && bDecimalUnit != 0 && bLeadingDecimalZeros 
+                    + ArithmeticUtil.digitCount(bDecimalUnit) > MAX_SCALE) {
+                throw new IllegalStateException("Too many decimal places "
+                        + "for a whole unit.");
+            }
 
-            return bMoney;
+            return new Money(this);
         }
     }
 
@@ -192,7 +415,9 @@ public final class Money {
      * @return <code>SignValue</code> constant
      */
     public SignValue getSign() {
-        return sign;
+        boolean isNegative = (inflatedValue == null) ? unscaledValue < 0 : 
+                inflatedValue.signum() < 0;
+        return isNegative ? SignValue.Negative : SignValue.Positive;
     }
 
     /**
@@ -201,7 +426,17 @@ public final class Money {
      * @return <code>long</code> value
      */
     public long getWholeUnit() {
-        return wholeUnit;
+        if (inflatedValue != null) {
+            return inflatedValue.abs().divide(BigInteger.TEN.pow(scale))
+                    .longValue();
+        }
+        
+        // Any long value is less than 10^19
+        if (scale > ArithmeticUtil.MAX_LONG_SCALE) {
+            return 0;
+        }
+        
+        return Math.abs(unscaledValue) / ArithmeticUtil.powerOfTen(scale);
     }
 
     /**
@@ -210,7 +445,16 @@ public final class Money {
      * @return <code>long</code> value
      */
     public long getDecimalUnit() {
-        return decimalUnit;
+        if (inflatedValue != null) {
+            return inflatedValue.abs().mod(BigInteger.TEN.pow(scale))
+                    .longValue();
+        }
+        
+        if (scale > ArithmeticUtil.MAX_LONG_SCALE) {
+            return Math.abs(unscaledValue);
+        }
+        
+        return Math.abs(unscaledValue) % ArithmeticUtil.powerOfTen(scale);
     }
 
     /**
@@ -219,7 +463,9 @@ public final class Money {
      * @return <code>long</code> value
      */
     public long getLeadingDecimalZeros() {
-        return leadingDecimalZeros;
+        long decimalUnit = getDecimalUnit();
+        return (decimalUnit == 0) ? 0 : 
+                scale - ArithmeticUtil.digitCount(decimalUnit);
     }
 
     /**
@@ -228,7 +474,66 @@ public final class Money {
      * @return <code>String</code> object
      */
     public String getCurrencyCode() {
-        return currencyCode;
+        return getCurrency().getCurrencyCode();
+    }
+
+    /**
+     * Returns the currency registry entry.
+     *
+     * @return <code>CurrencyRegistry.Entry</code> object
+     */
+    public CurrencyRegistry.Entry getCurrency() {
+        return CurrencyRegistry.ofOrdinal(currencyIndex);
+    }
+    
+    /**
+     * Returns the number of decimal places, counting leading zeroes. Whole
+     * numbers have a scale of zero.
+     * 
+     * @return <code>integer</code> value
+     */
+    int getScale() {
+        return scale;
+    }
+    
+    /**
+     * Returns the exact value as a <code>BigDecimal</code>.
+     * 
+     * @return <code>BigDecimal</code> object
+     */
+    BigDecimal toBigDecimal() {
+        return (inflatedValue != null) ? new BigDecimal(inflatedValue, scale) : 
+                BigDecimal.valueOf(unscaledValue, scale);
+    }
+    
+    /**
+     * Checks if the unscaled value does not fit into a <code>long</code> 
+     * value.
+     * 
+     * @return <code>boolean</code> value
+     */
+    boolean isInflated() {
+        return inflatedValue != null;
+    }
+    
+    /**
+     * Returns the signed unscaled value. Only valid when this object is not
+     * inflated.
+     * 
+     * @return <code>long</code> value
+     */
+    long getUnscaledValue() {
+        return unscaledValue;
+    }
+    
+    /**
+     * Returns the signed unscaled value as a <code>BigInteger</code>.
+     * 
+     * @return <code>BigInteger</code> object
+     */
+    BigInteger getBigUnscaledValue() {
+        return (inflatedValue != null) ? inflatedValue : 
+                BigInteger.valueOf(unscaledValue);
     }
 
     /**
@@ -237,17 +542,15 @@ public final class Money {
      * @return <code>Money</code> object
      */
     public Money negate() {
-        if (wholeUnit == 0 && decimalUnit == 0 && sign == SignValue.Positive) {
+        if (isZero()) {
             throw new IllegalStateException("Cannot negate zero.");
         }
         
-        return new Money.Builder()
-                .wholeUnit(wholeUnit)
-                .currencyCode(currencyCode)
-                .decimalUnit(decimalUnit)
-                .leadingDecimalZeroes(leadingDecimalZeros)
-                .sign(sign.oppositeOf())
-                .build();
+        if (inflatedValue != null) {
+            return new Money(0, inflatedValue.negate(), scale, currencyIndex);
+        }
+        
+        return new Money(-unscaledValue, null, scale, currencyIndex);
     }
 
     /**
@@ -300,17 +603,7 @@ public final class Money {
      * @return <code>Money</code> object as product
      */
     public Money multiply(long value) {
-        SignValue sign = SignValue.Positive;
-        
-        if (value < 0) {
-            sign = SignValue.Negative;
-            value = Math.abs(value);
-        }
-        
-        Money convertedTypeMoney = new Money.Builder()
-                .sign(sign)
-                .wholeUnit(value)
-                .build();
+        Money convertedTypeMoney = valueOf(value, getCurrency());
         return multiply(convertedTypeMoney);
     }
 
@@ -325,9 +618,32 @@ public final class Money {
         return multiply((long)value);
     }
 
+    /**
+     * Calculates the product of this object and a factor plus an addend, 
+     * <code>this * factor + addend</code>, and returns a new 
+     * <code>Money</code>. The result is the same as 
+     * <code>multiply(factor).add(addend)</code>, but the product is kept 
+     * as an unscaled value instead of a <code>Money</code> object and only 
+     * the final result has to be within the range of <code>Money</code>.
+     *
+     * @param factor <code>Money</code> object to multiply by
+     * @param addend <code>Money</code> object to be added to the product
+     * @return <code>Money</code> object as result
+     */
+    public Money multiplyAdd(Money factor, Money addend) {
+        verifyInput(factor);
+        verifyInput(addend);
+        
+        return new MoneyAccumulator(getCurrency())
+                .multiplyAdd(this, factor)
+                .add(addend)
+                .toMoney();
+    }
+
     /**
      * Calculates quotient of two <code>Money</code> objects and returns a new
-     * <code>Money</code>.
+     * <code>Money</code>. Keeps up to 18 decimal places, any further digits 
+     * are discarded.
      *
      * @param money <code>long</code> object as divisor
      * @return <code>Money</code> object as quotient
@@ -339,6 +655,24 @@ public final class Money {
         return divisionOperation.execute();
     }
 
+    /**
+     * Calculates quotient of two <code>Money</code> objects and returns a new
+     * <code>Money</code>. Keeps the given number of decimal places and rounds
+     * the rest with the given rounding mode.
+     *
+     * @param money <code>Money</code> object as divisor
+     * @param scale <code>integer</code> value of the decimal places to keep
+     * @param roundingMode <code>RoundingMode</code> for the discarded digits
+     * @return <code>Money</code> object as quotient
+     */
+    public Money divide(Money money, int scale, RoundingMode roundingMode) {
+        verifyInput(money);
+
+        MoneyOperation divisionOperation = new Division(this, money, scale, 
+                roundingMode);
+        return divisionOperation.execute();
+    }
+
     /**
      * Calculates product of a <code>Money</code> object to the specified power
      * and returns a new <code>Money</code>. Both the exponent and base values
@@ -356,6 +690,7 @@ public final class Money {
         }
         
         Money convertedTypeMoney = new Money.Builder()
+                .currency(getCurrency())
                 .sign(sign)
                 .wholeUnit(value)
                 .build();
@@ -377,13 +712,46 @@ public final class Money {
         return power((long)value);
     }
 
+    /**
+     * Calculates product of a <code>Money</code> object to the specified power
+     * and returns a new <code>Money</code>. Unlike {@link #power(long)}, the 
+     * base may have decimal places. Every intermediate product is rounded to 
+     * the given number of decimal places with the given rounding mode, which
+     * keeps large exponents cheap.
+     *
+     * @param value <code>long</code> value used as the exponent
+     * @param scale <code>integer</code> value of the maximum decimal places 
+     * of intermediate products
+     * @param roundingMode <code>RoundingMode</code> for the discarded digits
+     * @return <code>Money</code> object as product
+     */
+    public Money power(long value, int scale, RoundingMode roundingMode) {
+        SignValue sign = SignValue.Positive;
+        
+        if (value < 0) {
+            sign = SignValue.Negative;
+            value = Math.abs(value);
+        }
+        
+        Money convertedTypeMoney = new Money.Builder()
+                .currency(getCurrency())
+                .sign(sign)
+                .wholeUnit(value)
+                .build();
+        verifyInput(convertedTypeMoney);
+
+        MoneyOperation powerOperation = new Power(this, convertedTypeMoney, 
+                scale, roundingMode);
+        return powerOperation.execute();
+    }
+
     /**
      * Checks if this object is positive.
      *
      * @return <code>boolean</code> value
      */
     public boolean isPositive() {
-        return getSign() == SignValue.Positive && isNotZero();
+        return signum() > 0;
     }
 
     /**
@@ -392,7 +760,18 @@ public final class Money {
      * @return <code>boolean</code> value
      */
     public boolean isNegative() {
-        return getSign() == SignValue.Negative;
+        return signum() < 0;
+    }
+
+    /**
+     * Returns the signum function of this object.
+     *
+     * @return -1, 0, or 1 as the value of this object is negative, zero, or
+     * positive
+     */
+    public int signum() {
+        return (inflatedValue == null) ? Long.signum(unscaledValue) : 
+                inflatedValue.signum();
     }
 
     /**
@@ -401,7 +780,7 @@ public final class Money {
      * @return <code>boolean</code> value
      */
     public boolean isZero() {
-        return getWholeUnit() == 0 && getDecimalUnit() == 0;
+        return inflatedValue == null && unscaledValue == 0;
     }
 
     /**
@@ -410,7 +789,7 @@ public final class Money {
      * @return <code>boolean</code> value
      */
     public boolean isWholeNumber() {
-        return getDecimalUnit() == 0 && getLeadingDecimalZeros() == 0;
+        return scale == 0;
     }
 
     /**
@@ -424,7 +803,8 @@ public final class Money {
 
     /**
      * Override equals method to match if two <code>Money</code> have the same
-     * value and currency.
+     * value and currency. Values that only differ in trailing decimal zeros,
+     * such as 1.50 and 1.5, are equal.
      *
      * @param money <code>Money</code> object to compare with
      * @return <code>boolean</code> value
@@ -436,27 +816,73 @@ public final class Money {
         if (!(money instanceof Money)) return false;
 
         Money thatMoney = (Money) money;
-        return getCurrencyCode().equals(thatMoney.getCurrencyCode())
-                && getSign() == thatMoney.getSign()
-                && getWholeUnit() == thatMoney.getWholeUnit()
-                && getDecimalUnit() == thatMoney.getDecimalUnit()
-                && getLeadingDecimalZeros() == thatMoney.getLeadingDecimalZeros();
+        if (currencyIndex != thatMoney.currencyIndex) {
+            return false;
+        }
+        
+        if (scale == thatMoney.scale) {
+            return unscaledValue == thatMoney.unscaledValue
+                    && Objects.equals(inflatedValue, thatMoney.inflatedValue);
+        }
+        
+        // Equal values have the same hash code, so only a matching hash 
+        // code needs the comparison of the values
+        return hashCode() == thatMoney.hashCode() 
+                && compareMagnitudes(this, thatMoney) == 0 
+                && signum() == thatMoney.signum();
     }
 
     /**
-     * Override hash code to match equal <code>Money</code> objects.
+     * Override hash code to match equal <code>Money</code> objects. The hash
+     * code is computed from the value without trailing decimal zeros on 
+     * first use and then cached.
      *
-     * @return <code>boolean</code> value
+     * @return <code>integer</code> value
      */
     @Override
     public int hashCode() {
+        int hash = hashCode;
+        if (hash == 0) {
+            hash = computeHashCode();
+            hashCode = hash;
+        }
+        
+        return hash;
+    }
+    
+    private int computeHashCode() {
+        int canonicalScale = scale;
+        int valueHash;
+        if (inflatedValue == null) {
+            long value = unscaledValue;
+            while (canonicalScale > 0 && value % 10 == 0) {
+                value /= 10;
+                canonicalScale--;
+            }
+            
+            valueHash = Long.hashCode(value);
+        } else {
+            BigInteger value = inflatedValue;
+            while (canonicalScale > 0) {
+                BigInteger[] quotientAndRemainder = 
+                        value.divideAndRemainder(BigInteger.TEN);
+                if (quotientAndRemainder[1].signum() != 0) {
+                    break;
+                }
+                
+                value = quotientAndRemainder[0];
+                canonicalScale--;
+            }
+            
+            // Hashes like the same value stored as a long value
+            valueHash = (value.bitLength() < Long.SIZE) ? 
+                    Long.hashCode(value.longValue()) : value.hashCode();
+        }
+        
         int hash = 7;
-        hash = 41 * hash + Objects.hashCode(this.currencyCode);
-        hash = 41 * hash + (int) (this.wholeUnit ^ (this.wholeUnit >>> 32));
-        hash = 41 * hash + (int) (this.decimalUnit ^ (this.decimalUnit >>> 32));
-        hash = 41 * hash + (int) (this.leadingDecimalZeros ^ (
-                this.leadingDecimalZeros >>> 32));
-        hash = 41 * hash + Objects.hashCode(this.sign);
+        hash = 41 * hash + currencyIndex;
+        hash = 41 * hash + valueHash;
+        hash = 41 * hash + canonicalScale;
         return hash;
     }
 
@@ -471,32 +897,72 @@ public final class Money {
     public int compareTo(Money money) {
         verifyInput(money);
 
-        BigInteger[] resultArray = ConversionTypeUtil
-                .concatWholeAndDecThenConvertBigInteger(this, money);
-
-        if (getSign() == SignValue.Negative
-                && money.getSign() == SignValue.Positive) {
-            return -1;
-        } else if (getSign() == SignValue.Positive
-                && money.getSign() == SignValue.Negative) {
-            return 1;
-        } else if (getSign() == SignValue.Negative
-                && money.getSign() == SignValue.Negative) {
-
-            // index 1 is ThisMoney and 2 is opposite
-            // index 0 is for cutoff decimal index
-            if (resultArray[1].compareTo(resultArray[2]) > 0) {
-                return -1;
-            } else if (resultArray[1].compareTo(resultArray[2]) < 0) {
-                return 1;
-            } else {
-                return 0;
-            }
-
-        } else {
-            return resultArray[1].compareTo(resultArray[2]);
+        int thisSignum = signum();
+        int thatSignum = money.signum();
+        if (thisSignum != thatSignum) {
+            return (thisSignum < thatSignum) ? -1 : 1;
         }
-
+        
+        if (thisSignum == 0) {
+            return 0;
+        }
+        
+        int magnitudeComparison = compareMagnitudes(this, money);
+        return (thisSignum > 0) ? magnitudeComparison : -magnitudeComparison;
+    }
+    
+    /**
+     * Compares the absolute values of two <code>Money</code> objects, first
+     * by whole units and then by the decimal digits aligned to the same 
+     * number of decimal places.
+     *
+     * @param thisMoney <code>Money</code> object
+     * @param thatMoney <code>Money</code> object
+     * @return -1, 0 or 1
+     */
+    private static int compareMagnitudes(Money thisMoney, Money thatMoney) {
+        int wholeComparison = Long.compare(thisMoney.getWholeUnit(), 
+                thatMoney.getWholeUnit());
+        if (wholeComparison != 0) {
+            return wholeComparison;
+        }
+        
+        long thisDecimalUnit = thisMoney.getDecimalUnit();
+        long thatDecimalUnit = thatMoney.getDecimalUnit();
+        int scaleDifference = thatMoney.scale - thisMoney.scale;
+        if (scaleDifference >= 0) {
+            return compareDecimalUnits(thisDecimalUnit, thatDecimalUnit, 
+                    scaleDifference);
+        }
+        
+        return -compareDecimalUnits(thatDecimalUnit, thisDecimalUnit, 
+                -scaleDifference);
+    }
+    
+    /**
+     * Compares two decimal units, where the second has more decimal places.
+     *
+     * @param shorterDecimalUnit Decimal unit with fewer decimal places
+     * @param longerDecimalUnit Decimal unit with more decimal places
+     * @param scaleDifference Difference of the decimal places
+     * @return -1, 0 or 1
+     */
+    private static int compareDecimalUnits(long shorterDecimalUnit, 
+            long longerDecimalUnit, int scaleDifference) {
+        // Any long value is less than 10^19
+        if (scaleDifference > ArithmeticUtil.MAX_LONG_SCALE) {
+            return (shorterDecimalUnit > 0) ? 1 : 
+                    ((longerDecimalUnit > 0) ? -1 : 0);
+        }
+        
+        long divisor = ArithmeticUtil.powerOfTen(scaleDifference);
+        int comparison = Long.compare(shorterDecimalUnit, 
+                longerDecimalUnit / divisor);
+        if (comparison != 0) {
+            return comparison;
+        }
+        
+        return (longerDecimalUnit % divisor == 0) ? 0 : -1;
     }
 
     /**
@@ -507,7 +973,7 @@ public final class Money {
      * @return <code>boolean</code> value
      */
     public boolean isLessThan(Money money) {
-        return compareTo(money) == -1;
+        return compareTo(money) < 0;
     }
 
     /**
@@ -518,7 +984,7 @@ public final class Money {
      * @return <code>boolean</code> value
      */
     public boolean isLessThanOrEqualTo(Money money) {
-        return compareTo(money) == -1 || equals(money);
+        return compareTo(money) <= 0;
     }
 
     /**
@@ -527,10 +993,7 @@ public final class Money {
      * @return <code>boolean</code> value
      */
     public boolean isLessThanZero() {
-        Money zeroMoney = new Money.Builder()
-                .currencyCode(currencyCode)
-                .build();
-        return compareTo(zeroMoney) == -1;
+        return signum() < 0;
     }
 
     /**
@@ -541,7 +1004,7 @@ public final class Money {
      * @return <code>boolean</code> value
      */
     public boolean isGreaterThan(Money money) {
-        return compareTo(money) == 1;
+        return compareTo(money) > 0;
     }
 
     /**
@@ -552,7 +1015,7 @@ public final class Money {
      * @return <code>boolean</code> value
      */
     public boolean isGreaterThanOrEqualTo(Money money) {
-        return compareTo(money) == 1 || equals(money);
+        return compareTo(money) >= 0;
     }
 
     /**
@@ -561,10 +1024,7 @@ public final class Money {
      * @return <code>boolean</code> value
      */
     public boolean isGreaterThanZero() {
-        Money tempMoney = new Money.Builder()
-                .currencyCode(currencyCode)
-                .sign(sign).build();
-        return compareTo(tempMoney) == 1;
+        return signum() > 0;
     }
 
     /**
@@ -596,7 +1056,7 @@ public final class Money {
             return false;
         }
 
-        return getCurrencyCode().equalsIgnoreCase(money.getCurrencyCode());
+        return currencyIndex == money.currencyIndex;
     }
 
     /**
@@ -606,19 +1066,97 @@ public final class Money {
      * @return <code>String</code> object
      */
     public String toStringDecimal() {
-        // Apply sign
-        String signText;
-        if (getWholeUnit() == 0 && getDecimalUnit() == 0) { signText = "";
-        } else if (getSign() == SignValue.Positive) { signText = "";
-        } else { signText = getSign().getText(); }
+        char[] buffer = new char[formattedLength()];
+        formatTo(buffer, 0);
+        return new String(buffer);
+    }
+
+    /**
+     * Returns the number of characters written by the <code>formatTo</code>
+     * methods, which is the length of {@link #toStringDecimal()}.
+     *
+     * @return <code>integer</code> value
+     */
+    public int formattedLength() {
+        long decimalUnit = getDecimalUnit();
+        long length = (isNegative() ? 1 : 0) 
+                + ArithmeticUtil.digitCount(getWholeUnit()) + 1
+                + getLeadingDecimalZeros() 
+                + ArithmeticUtil.digitCount(decimalUnit);
+        
+        return Math.toIntExact(length);
+    }
 
-        // Add any leading zeros
-        String penceStr = "";
-        for (int i = 0; i < getLeadingDecimalZeros(); i++) {
-            penceStr += ZERO_STRING;
+    /**
+     * Writes the same characters as {@link #toStringDecimal()} to an 
+     * <code>Appendable</code> object, without creating any intermediate
+     * <code>String</code>.
+     *
+     * @param appendable <code>Appendable</code> object to write to
+     * @throws IOException If the <code>Appendable</code> object fails
+     */
+    public void formatTo(Appendable appendable) throws IOException {
+        if (isNegative()) {
+            appendable.append(SIGN_CHARACTER);
         }
+        
+        long decimalUnit = getDecimalUnit();
+        appendDigits(appendable, getWholeUnit());
+        appendable.append(DECIMAL_POINT_CHARACTER);
+        for (long i = getLeadingDecimalZeros(); i > 0; i--) {
+            appendable.append(ZERO_CHARACTER);
+        }
+        appendDigits(appendable, decimalUnit);
+    }
 
-        return signText + getWholeUnit() + DECIMAL_POINT + penceStr + getDecimalUnit();
+    /**
+     * Writes the same characters as {@link #toStringDecimal()} into a 
+     * <code>char</code> array. Throws an 
+     * <code>IndexOutOfBoundsException</code> without writing anything if 
+     * the array has less than {@link #formattedLength()} characters left 
+     * from the offset.
+     *
+     * @param buffer <code>char</code> array to write to
+     * @param offset Index of the first character to write
+     * @return Index after the last character written
+     */
+    public int formatTo(char[] buffer, int offset) {
+        int length = formattedLength();
+        if (offset < 0 || length > buffer.length - offset) {
+            throw new IndexOutOfBoundsException("Buffer too small.");
+        }
+        
+        int position = offset;
+        if (isNegative()) {
+            buffer[position++] = SIGN_CHARACTER;
+        }
+        
+        long decimalUnit = getDecimalUnit();
+        position = writeDigits(buffer, position, getWholeUnit());
+        buffer[position++] = DECIMAL_POINT_CHARACTER;
+        for (long i = getLeadingDecimalZeros(); i > 0; i--) {
+            buffer[position++] = ZERO_CHARACTER;
+        }
+        
+        return writeDigits(buffer, position, decimalUnit);
+    }
+    
+    private static void appendDigits(Appendable appendable, long value) 
+            throws IOException {
+        for (int i = ArithmeticUtil.digitCount(value) - 1; i >= 0; i--) {
+            appendable.append((char) (ZERO_CHARACTER 
+                    + (value / ArithmeticUtil.powerOfTen(i)) % 10));
+        }
+    }
+    
+    private static int writeDigits(char[] buffer, int position, long value) {
+        int end = position + ArithmeticUtil.digitCount(value);
+        for (int i = end - 1; i >= position; i--) {
+            buffer[i] = (char) (ZERO_CHARACTER + value % 10);
+            value /= 10;
+        }
+        
+        return end;
     }
 
     /**
@@ -630,16 +1168,10 @@ public final class Money {
      */
     @Override
     public String toString() {
-        double doubleFormat = Double.valueOf(toStringDecimal());
-
-        NumberFormat numberFormatter
-                = NumberFormat.getCurrencyInstance(Locale.getDefault());
-
-        Currency currency = Currency.getInstance(this.currencyCode);
-        numberFormatter.setCurrency(currency);
-        numberFormatter.setRoundingMode(RoundingMode.DOWN);
+        NumberFormat numberFormatter = CurrencyFormatCache.getCurrencyFormat(
+                Locale.getDefault(), getCurrency());
 
-        return numberFormatter.format(doubleFormat);
+        return numberFormatter.format(toBigDecimal());
     }
 
 }
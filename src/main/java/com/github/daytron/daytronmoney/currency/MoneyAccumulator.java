@@ -0,0 +1,299 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.currency;
+
+import com.github.daytron.daytronmoney.exception.CurrencyDidNotMatchException;
+import com.github.daytron.daytronmoney.utility.ArithmeticUtil;
+import com.github.daytron.daytronmoney.utility.Int128;
+import java.math.BigInteger;
+
+/**
+ * A mutable running total of <code>Money</code> objects of one currency. 
+ * Values are added into a primitive unscaled register, which widens to a 
+ * <code>BigInteger</code> only on overflow, and a <code>Money</code> object
+ * is only created by {@link #toMoney()}. 
+ * 
+ * <p>The result is the same as folding the values with 
+ * <code>Money.add</code>, <code>Money.subtract</code> and 
+ * <code>Money.multiply</code>, except that only the final total has to be 
+ * within the range of <code>Money</code>. This class is not thread-safe.
+ * 
+ * @author Ryan Gilera
+ */
+public final class MoneyAccumulator {
+    
+    private final CurrencyRegistry.Entry currency;
+    
+    // The total is unscaledValue / 10^scale, or inflatedValue / 10^scale when
+    // it does not fit into a long. Totals without decimal digits always have
+    // a scale of zero, the same as Money objects.
+    private long unscaledValue;
+    private BigInteger inflatedValue;
+    private int scale;
+    
+    /**
+     * Creates an accumulator for the currency of the default 
+     * <code>Locale</code>.
+     */
+    public MoneyAccumulator() {
+        this(CurrencyRegistry.getDefault());
+    }
+    
+    /**
+     * Creates an accumulator for the given currency.
+     * 
+     * @param currency <code>CurrencyRegistry.Entry</code> of the currency
+     */
+    public MoneyAccumulator(CurrencyRegistry.Entry currency) {
+        if (currency == null) {
+            throw new NullPointerException("Cannot accept null currency.");
+        }
+        
+        this.currency = currency;
+    }
+    
+    /**
+     * Returns the currency of this accumulator.
+     * 
+     * @return <code>CurrencyRegistry.Entry</code> object
+     */
+    public CurrencyRegistry.Entry getCurrency() {
+        return currency;
+    }
+    
+    /**
+     * Adds a <code>Money</code> object to the total.
+     * 
+     * @param money <code>Money</code> object to be added
+     * @return this <code>MoneyAccumulator</code> object
+     */
+    public MoneyAccumulator add(Money money) {
+        verifyInput(money);
+        
+        if (money.isInflated()) {
+            addScaled(money.getBigUnscaledValue(), money.getScale());
+        } else {
+            addScaled(money.getUnscaledValue(), money.getScale());
+        }
+        
+        return this;
+    }
+    
+    /**
+     * Subtracts a <code>Money</code> object from the total.
+     * 
+     * @param money <code>Money</code> object to be subtracted
+     * @return this <code>MoneyAccumulator</code> object
+     */
+    public MoneyAccumulator subtract(Money money) {
+        verifyInput(money);
+        
+        // Unscaled values of Money objects are never Long.MIN_VALUE
+        if (money.isInflated()) {
+            addScaled(money.getBigUnscaledValue().negate(), money.getScale());
+        } else {
+            addScaled(-money.getUnscaledValue(), money.getScale());
+        }
+        
+        return this;
+    }
+    
+    /**
+     * Adds the product of two <code>Money</code> objects to the total, 
+     * without creating the product as a <code>Money</code> object.
+     * 
+     * @param multiplicand <code>Money</code> object to be multiplied
+     * @param multiplier <code>Money</code> object to multiply by
+     * @return this <code>MoneyAccumulator</code> object
+     */
+    public MoneyAccumulator multiplyAdd(Money multiplicand, Money multiplier) {
+        verifyInput(multiplicand);
+        verifyInput(multiplier);
+        
+        if (multiplicand.isZero() || multiplier.isZero()) {
+            return this;
+        }
+        
+        int productScale = Math.addExact(multiplicand.getScale(), 
+                multiplier.getScale());
+        
+        if (!multiplicand.isInflated() && !multiplier.isInflated()) {
+            long x = multiplicand.getUnscaledValue();
+            long y = multiplier.getUnscaledValue();
+            long productHigh = Int128.multiplyHigh(x, y);
+            long product = x * y;
+            
+            if (productHigh == (product >> (Long.SIZE - 1)) 
+                    && product != Long.MIN_VALUE) {
+                // Products drop trailing zeroes, but keep a single decimal
+                // digit in tens, the same as Money.multiply
+                while (productScale > 0 && product % 10 == 0) {
+                    product /= 10;
+                    productScale--;
+                }
+                
+                if (productScale == 1) {
+                    if (Math.abs(product) > Long.MAX_VALUE / 10) {
+                        addScaled(BigInteger.valueOf(product)
+                                .multiply(BigInteger.TEN), 2);
+                        return this;
+                    }
+                    
+                    product *= 10;
+                    productScale = 2;
+                }
+                
+                addScaled(product, productScale);
+                return this;
+            }
+        }
+        
+        BigInteger product = multiplicand.getBigUnscaledValue()
+                .multiply(multiplier.getBigUnscaledValue());
+        while (productScale > 0 
+                && product.mod(BigInteger.TEN).signum() == 0) {
+            product = product.divide(BigInteger.TEN);
+            productScale--;
+        }
+        
+        if (productScale == 1) {
+            product = product.multiply(BigInteger.TEN);
+            productScale = 2;
+        }
+        
+        addScaled(product, productScale);
+        return this;
+    }
+    
+    /**
+     * Sets the total back to zero.
+     * 
+     * @return this <code>MoneyAccumulator</code> object
+     */
+    public MoneyAccumulator reset() {
+        unscaledValue = 0;
+        inflatedValue = null;
+        scale = 0;
+        return this;
+    }
+    
+    /**
+     * Creates a <code>Money</code> object of the total. Throws an 
+     * <code>ArithmeticException</code> if the total exceeds the range of 
+     * <code>Money</code>.
+     * 
+     * @return <code>Money</code> object
+     */
+    public Money toMoney() {
+        if (inflatedValue != null) {
+            return MoneyOperation.toMoney(inflatedValue, scale, currency);
+        }
+        
+        return MoneyOperation.toMoney(unscaledValue, scale, currency);
+    }
+    
+    private void verifyInput(Money money) {
+        if (money == null) {
+            throw new NullPointerException("Cannot accept null input.");
+        }
+
+        if (money.getCurrency() != currency) {
+            throw new CurrencyDidNotMatchException("Currency codes doesn't matched!");
+        }
+    }
+    
+    private void addScaled(long value, int valueScale) {
+        if (inflatedValue == null) {
+            try {
+                int newScale = Math.max(scale, valueScale);
+                long total = Math.addExact(
+                        ArithmeticUtil.scaleUp(unscaledValue, newScale - scale), 
+                        ArithmeticUtil.scaleUp(value, newScale - valueScale));
+                
+                unscaledValue = total;
+                scale = newScale;
+                dropZeroDecimals();
+                return;
+            } catch (ArithmeticException overflow) {
+                // Continues with BigInteger arithmetic
+            }
+        }
+        
+        addScaled(BigInteger.valueOf(value), valueScale);
+    }
+    
+    private void addScaled(BigInteger value, int valueScale) {
+        BigInteger total = (inflatedValue != null) ? inflatedValue : 
+                BigInteger.valueOf(unscaledValue);
+        int newScale = Math.max(scale, valueScale);
+        total = total.multiply(BigInteger.TEN.pow(newScale - scale))
+                .add(value.multiply(BigInteger.TEN.pow(newScale - valueScale)));
+        
+        if (total.bitLength() < Long.SIZE) {
+            unscaledValue = total.longValue();
+            inflatedValue = null;
+        } else {
+            unscaledValue = 0;
+            inflatedValue = total;
+        }
+        
+        scale = newScale;
+        dropZeroDecimals();
+    }
+    
+    /**
+     * Resets the scale to zero when the total has no decimal digits, the 
+     * same as the sum of two <code>Money</code> objects.
+     */
+    private void dropZeroDecimals() {
+        if (scale == 0) {
+            return;
+        }
+        
+        if (inflatedValue != null) {
+            BigInteger[] wholeAndDecimal = inflatedValue
+                    .divideAndRemainder(BigInteger.TEN.pow(scale));
+            if (wholeAndDecimal[1].signum() == 0) {
+                BigInteger wholeValue = wholeAndDecimal[0];
+                inflatedValue = (wholeValue.bitLength() < Long.SIZE) ? null : 
+                        wholeValue;
+                unscaledValue = (inflatedValue == null) ? 
+                        wholeValue.longValue() : 0;
+                scale = 0;
+            }
+        } else if (scale > ArithmeticUtil.MAX_LONG_SCALE) {
+            // Any long value is less than 10^19
+            if (unscaledValue == 0) {
+                scale = 0;
+            }
+        } else {
+            long divisor = ArithmeticUtil.powerOfTen(scale);
+            if (unscaledValue % divisor == 0) {
+                unscaledValue /= divisor;
+                scale = 0;
+            }
+        }
+    }
+    
+}
@@ -0,0 +1,687 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.currency;
+
+import com.github.daytron.daytronmoney.exception.CurrencyDidNotMatchException;
+import com.github.daytron.daytronmoney.utility.ArithmeticUtil;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>A compiled arithmetic expression over <code>Money</code> values, such 
+ * as <code>"(gross - discount) * rate + fee"</code>. The expression is 
+ * parsed once and can then be evaluated for many sets of variable values.
+ * 
+ * <p>The expression may contain numbers, variables, parentheses, the 
+ * binary operators <code>+</code>, <code>-</code> and <code>*</code> and a 
+ * unary <code>-</code>, with the usual precedence. Numbers accept the same 
+ * digits as <code>MoneyFactory.valueOf(String)</code> without signs, 
+ * commas or currency codes. Variables are Java identifiers and are 
+ * numbered in order of their first appearance.
+ * 
+ * <p>Operations on numbers only are computed when the expression is 
+ * compiled, and the scales of all numbers are resolved at that time. An 
+ * {@link Evaluator} then computes each operation on unscaled 
+ * <code>long</code> registers, widening to <code>BigInteger</code> only on
+ * overflow, and creates a single <code>Money</code> object for the result.
+ * The result is the same as the chain of <code>Money.add</code>, 
+ * <code>Money.subtract</code> and <code>Money.multiply</code> calls, where 
+ * <code>-x</code> is <code>0 - x</code>, except that only the result has to 
+ * be within the range of <code>Money</code>.
+ * 
+ * <p>A <code>MoneyExpression</code> is immutable and can be shared between 
+ * threads, while each thread needs its own <code>Evaluator</code>.
+ * 
+ * @author Ryan Gilera
+ */
+public final class MoneyExpression {
+    
+    private static final byte PUSH_NUMBER = 0;
+    private static final byte PUSH_VARIABLE = 1;
+    private static final byte ADD = 2;
+    private static final byte SUBTRACT = 3;
+    private static final byte MULTIPLY = 4;
+    private static final byte NEGATE = 5;
+    
+    private final String expression;
+    private final CurrencyRegistry.Entry currency;
+    private final List<String> variableNames;
+    
+    // Program in postfix order, where the operand of a push instruction is
+    // the index of the number or variable
+    private final byte[] instructions;
+    private final int[] operands;
+    private final int maxStackSize;
+    
+    // Numbers resolved into unscaled values and scales
+    private final long[] numberUnscaledValues;
+    private final BigInteger[] numberInflatedValues;
+    private final int[] numberScales;
+    
+    private MoneyExpression(String expression, CurrencyRegistry.Entry currency,
+            Compiler compiler) {
+        this.expression = expression;
+        this.currency = currency;
+        this.variableNames = Collections.unmodifiableList(
+                new ArrayList<>(compiler.variableNames));
+        this.instructions = Arrays.copyOf(compiler.instructions, 
+                compiler.size);
+        this.operands = Arrays.copyOf(compiler.operands, compiler.size);
+        this.maxStackSize = compiler.maxStackSize;
+        
+        int numberCount = compiler.numbers.size();
+        this.numberUnscaledValues = new long[numberCount];
+        this.numberInflatedValues = new BigInteger[numberCount];
+        this.numberScales = new int[numberCount];
+        for (int i = 0; i < numberCount; i++) {
+            Money number = compiler.numbers.get(i);
+            numberScales[i] = number.getScale();
+            if (number.isInflated()) {
+                numberInflatedValues[i] = number.getBigUnscaledValue();
+            } else {
+                numberUnscaledValues[i] = number.getUnscaledValue();
+            }
+        }
+    }
+    
+    /**
+     * Compiles an expression whose values are in the currency of the 
+     * default <code>Locale</code>.
+     * 
+     * @param expression <code>String</code> of the expression
+     * @return Compiled <code>MoneyExpression</code> object
+     */
+    public static MoneyExpression compile(String expression) {
+        return compile(expression, CurrencyRegistry.getDefault());
+    }
+    
+    /**
+     * Compiles an expression whose values are in the given currency. Throws
+     * an <code>IllegalArgumentException</code> if the expression is invalid.
+     * 
+     * @param expression <code>String</code> of the expression
+     * @param currency <code>CurrencyRegistry.Entry</code> of all values
+     * @return Compiled <code>MoneyExpression</code> object
+     */
+    public static MoneyExpression compile(String expression, 
+            CurrencyRegistry.Entry currency) {
+        if (expression == null || currency == null) {
+            throw new NullPointerException("Cannot accept null input.");
+        }
+        
+        Compiler compiler = new Compiler(expression, currency);
+        compiler.compile();
+        return new MoneyExpression(expression, currency, compiler);
+    }
+    
+    /**
+     * Returns the currency of the values and the result.
+     * 
+     * @return <code>CurrencyRegistry.Entry</code> object
+     */
+    public CurrencyRegistry.Entry getCurrency() {
+        return currency;
+    }
+    
+    /**
+     * Returns the names of the variables in order of their first 
+     * appearance, which is the order of the values to evaluate with.
+     * 
+     * @return Unmodifiable <code>List</code> of names
+     */
+    public List<String> getVariableNames() {
+        return variableNames;
+    }
+    
+    /**
+     * Creates an evaluator of this expression for the calling thread.
+     * 
+     * @return New <code>Evaluator</code> object
+     */
+    public Evaluator newEvaluator() {
+        return new Evaluator(this);
+    }
+    
+    /**
+     * Evaluates the expression once with a new <code>Evaluator</code>. 
+     * Repeated evaluations should reuse an evaluator from 
+     * {@link #newEvaluator()} instead.
+     * 
+     * @param values <code>Money</code> values of the variables, in the order
+     * of {@link #getVariableNames()}
+     * @return <code>Money</code> object as result
+     */
+    public Money evaluate(Money... values) {
+        return newEvaluator().evaluate(values);
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+    
+    /**
+     * <p>Evaluates a <code>MoneyExpression</code> on reusable registers. 
+     * Evaluating creates no objects other than the resulting 
+     * <code>Money</code>, unless a value or an intermediate result does not 
+     * fit into a <code>long</code> value.
+     * 
+     * <p>This class is not thread-safe.
+     */
+    public static final class Evaluator {
+        
+        private final MoneyExpression expression;
+        private final long[] unscaledValues;
+        private final int[] scales;
+        private BigInteger[] inflatedValues;
+        
+        private Evaluator(MoneyExpression expression) {
+            this.expression = expression;
+            this.unscaledValues = new long[expression.maxStackSize];
+            this.scales = new int[expression.maxStackSize];
+        }
+        
+        /**
+         * Evaluates the expression. Throws an <code>ArithmeticException</code>
+         * if the result exceeds the range of <code>Money</code>.
+         * 
+         * @param values <code>Money</code> values of the variables, in the 
+         * order of {@link MoneyExpression#getVariableNames()}
+         * @return <code>Money</code> object as result
+         */
+        public Money evaluate(Money... values) {
+            verifyInput(values);
+            
+            if (evaluateCompact(values)) {
+                return MoneyOperation.toMoney(unscaledValues[0], scales[0], 
+                        expression.currency);
+            }
+            
+            if (inflatedValues == null) {
+                inflatedValues = new BigInteger[expression.maxStackSize];
+            }
+            
+            evaluateInflated(values);
+            BigInteger result = inflatedValues[0];
+            Arrays.fill(inflatedValues, null);
+            return MoneyOperation.toMoney(result, scales[0], 
+                    expression.currency);
+        }
+        
+        private void verifyInput(Money[] values) {
+            if (values.length != expression.variableNames.size()) {
+                throw new IllegalArgumentException("Expected " 
+                        + expression.variableNames.size() + " values.");
+            }
+            
+            for (Money value : values) {
+                if (value == null) {
+                    throw new NullPointerException("Cannot accept null input.");
+                }
+                
+                if (value.getCurrency() != expression.currency) {
+                    throw new CurrencyDidNotMatchException(
+                            "Currency codes doesn't matched!");
+                }
+            }
+        }
+        
+        /**
+         * Runs the program on <code>long</code> registers.
+         * 
+         * @param values <code>Money</code> values of the variables
+         * @return <code>false</code> if a value or result does not fit into 
+         * a <code>long</code> value
+         */
+        private boolean evaluateCompact(Money[] values) {
+            final byte[] instructions = expression.instructions;
+            final int[] operands = expression.operands;
+            int top = -1;
+            
+            try {
+                for (int i = 0; i < instructions.length; i++) {
+                    switch (instructions[i]) {
+                        case PUSH_NUMBER:
+                            if (expression.numberInflatedValues[operands[i]] 
+                                    != null) {
+                                return false;
+                            }
+                            
+                            top++;
+                            unscaledValues[top] = 
+                                    expression.numberUnscaledValues[operands[i]];
+                            scales[top] = expression.numberScales[operands[i]];
+                            break;
+                        case PUSH_VARIABLE:
+                            Money value = values[operands[i]];
+                            if (value.isInflated()) {
+                                return false;
+                            }
+                            
+                            top++;
+                            unscaledValues[top] = value.getUnscaledValue();
+                            scales[top] = value.getScale();
+                            break;
+                        case NEGATE:
+                            unscaledValues[top] = 
+                                    Math.negateExact(unscaledValues[top]);
+                            break;
+                        case MULTIPLY:
+                            top--;
+                            multiply(top);
+                            break;
+                        default:
+                            top--;
+                            add(top, instructions[i] == SUBTRACT);
+                            break;
+                    }
+                }
+            } catch (ArithmeticException overflow) {
+                return false;
+            }
+            
+            return true;
+        }
+        
+        /**
+         * Adds or subtracts the register after <code>index</code> to the 
+         * register at <code>index</code>, the same as <code>Addition</code>.
+         */
+        private void add(int index, boolean subtract) {
+            int scale = Math.max(scales[index], scales[index + 1]);
+            long thisUnscaled = ArithmeticUtil.scaleUp(unscaledValues[index], 
+                    scale - scales[index]);
+            long thatUnscaled = ArithmeticUtil.scaleUp(
+                    unscaledValues[index + 1], scale - scales[index + 1]);
+            long sum = subtract ? Math.subtractExact(thisUnscaled, thatUnscaled)
+                    : Math.addExact(thisUnscaled, thatUnscaled);
+            
+            // Sums without decimal digits have a scale of zero
+            if (sum == 0) {
+                scale = 0;
+            } else if (scale > 0 && scale <= ArithmeticUtil.MAX_LONG_SCALE) {
+                long divisor = ArithmeticUtil.powerOfTen(scale);
+                if (sum % divisor == 0) {
+                    sum /= divisor;
+                    scale = 0;
+                }
+            }
+            
+            unscaledValues[index] = sum;
+            scales[index] = scale;
+        }
+        
+        /**
+         * Multiplies the register at <code>index</code> by the register after
+         * it, the same as <code>Multiplication</code>.
+         */
+        private void multiply(int index) {
+            long thisUnscaled = unscaledValues[index];
+            long thatUnscaled = unscaledValues[index + 1];
+            if (thisUnscaled == 0 || thatUnscaled == 0) {
+                unscaledValues[index] = 0;
+                scales[index] = 0;
+                return;
+            }
+            
+            long product = Math.multiplyExact(thisUnscaled, thatUnscaled);
+            int scale = Math.addExact(scales[index], scales[index + 1]);
+            
+            // Products drop trailing zeroes, but keep a single decimal
+            // digit in tens
+            while (scale > 0 && product % 10 == 0) {
+                product /= 10;
+                scale--;
+            }
+            
+            if (scale == 1) {
+                product = Math.multiplyExact(product, 10L);
+                scale = 2;
+            }
+            
+            unscaledValues[index] = product;
+            scales[index] = scale;
+        }
+        
+        /**
+         * Runs the program on <code>BigInteger</code> registers.
+         * 
+         * @param values <code>Money</code> values of the variables
+         */
+        private void evaluateInflated(Money[] values) {
+            final byte[] instructions = expression.instructions;
+            final int[] operands = expression.operands;
+            int top = -1;
+            
+            for (int i = 0; i < instructions.length; i++) {
+                switch (instructions[i]) {
+                    case PUSH_NUMBER:
+                        top++;
+                        BigInteger number = 
+                                expression.numberInflatedValues[operands[i]];
+                        inflatedValues[top] = (number != null) ? number : 
+                                BigInteger.valueOf(
+                                expression.numberUnscaledValues[operands[i]]);
+                        scales[top] = expression.numberScales[operands[i]];
+                        break;
+                    case PUSH_VARIABLE:
+                        top++;
+                        inflatedValues[top] = 
+                                values[operands[i]].getBigUnscaledValue();
+                        scales[top] = values[operands[i]].getScale();
+                        break;
+                    case NEGATE:
+                        inflatedValues[top] = inflatedValues[top].negate();
+                        break;
+                    case MULTIPLY:
+                        top--;
+                        multiplyInflated(top);
+                        break;
+                    default:
+                        top--;
+                        addInflated(top, instructions[i] == SUBTRACT);
+                        break;
+                }
+            }
+        }
+        
+        private void addInflated(int index, boolean subtract) {
+            int scale = Math.max(scales[index], scales[index + 1]);
+            BigInteger thisUnscaled = inflatedValues[index].multiply(
+                    BigInteger.TEN.pow(scale - scales[index]));
+            BigInteger thatUnscaled = inflatedValues[index + 1].multiply(
+                    BigInteger.TEN.pow(scale - scales[index + 1]));
+            BigInteger sum = subtract ? thisUnscaled.subtract(thatUnscaled) :
+                    thisUnscaled.add(thatUnscaled);
+            
+            if (scale > 0) {
+                BigInteger[] wholeAndDecimal = 
+                        sum.divideAndRemainder(BigInteger.TEN.pow(scale));
+                if (wholeAndDecimal[1].signum() == 0) {
+                    sum = wholeAndDecimal[0];
+                    scale = 0;
+                }
+            }
+            
+            inflatedValues[index] = sum;
+            scales[index] = scale;
+        }
+        
+        private void multiplyInflated(int index) {
+            BigInteger product = inflatedValues[index]
+                    .multiply(inflatedValues[index + 1]);
+            if (product.signum() == 0) {
+                inflatedValues[index] = product;
+                scales[index] = 0;
+                return;
+            }
+            
+            int scale = Math.addExact(scales[index], scales[index + 1]);
+            while (scale > 0) {
+                BigInteger[] quotientAndRemainder = 
+                        product.divideAndRemainder(BigInteger.TEN);
+                if (quotientAndRemainder[1].signum() != 0) {
+                    break;
+                }
+                
+                product = quotientAndRemainder[0];
+                scale--;
+            }
+            
+            if (scale == 1) {
+                product = product.multiply(BigInteger.TEN);
+                scale = 2;
+            }
+            
+            inflatedValues[index] = product;
+            scales[index] = scale;
+        }
+    }
+    
+    /**
+     * Recursive descent parser that emits the program in postfix order and
+     * folds operations on numbers only into a single number.
+     */
+    private static final class Compiler {
+        
+        private final String expression;
+        private final CurrencyRegistry.Entry currency;
+        private final MoneyFactory numberFactory;
+        private final List<String> variableNames = new ArrayList<>();
+        private final List<Money> numbers = new ArrayList<>();
+        
+        private byte[] instructions = new byte[16];
+        private int[] operands = new int[16];
+        private int size;
+        private int stackSize;
+        private int maxStackSize;
+        private int position;
+        
+        Compiler(String expression, CurrencyRegistry.Entry currency) {
+            this.expression = expression;
+            this.currency = currency;
+            this.numberFactory = new MoneyFactory(currency.getCurrencyCode());
+        }
+        
+        void compile() {
+            parseSum();
+            skipWhitespace();
+            if (position < expression.length()) {
+                throw unexpectedCharacter();
+            }
+        }
+        
+        private void parseSum() {
+            parseProduct();
+            while (true) {
+                char operator = peek();
+                if (operator != '+' && operator != '-') {
+                    return;
+                }
+                
+                position++;
+                parseProduct();
+                emitOperation((operator == '+') ? ADD : SUBTRACT);
+            }
+        }
+        
+        private void parseProduct() {
+            parseUnary();
+            while (peek() == '*') {
+                position++;
+                parseUnary();
+                emitOperation(MULTIPLY);
+            }
+        }
+        
+        private void parseUnary() {
+            if (peek() == '-') {
+                position++;
+                parseUnary();
+                emitOperation(NEGATE);
+                return;
+            }
+            
+            parsePrimary();
+        }
+        
+        private void parsePrimary() {
+            char character = peek();
+            if (character == '(') {
+                position++;
+                parseSum();
+                if (peek() != ')') {
+                    throw new IllegalArgumentException("Invalid expression. "
+                            + "Missing closing parenthesis at index " 
+                            + position + ".");
+                }
+                
+                position++;
+            } else if (isNumberCharacter(character)) {
+                int start = position;
+                while (position < expression.length() 
+                        && isNumberCharacter(expression.charAt(position))) {
+                    position++;
+                }
+                
+                emitNumber(numberFactory.valueOf(
+                        expression.substring(start, position)));
+            } else if (Character.isJavaIdentifierStart(character)) {
+                int start = position;
+                while (position < expression.length() 
+                        && Character.isJavaIdentifierPart(
+                                expression.charAt(position))) {
+                    position++;
+                }
+                
+                emitVariable(expression.substring(start, position));
+            } else {
+                throw unexpectedCharacter();
+            }
+        }
+        
+        private void emitNumber(Money number) {
+            numbers.add(number);
+            emit(PUSH_NUMBER, numbers.size() - 1);
+            push();
+        }
+        
+        private void emitVariable(String name) {
+            int index = variableNames.indexOf(name);
+            if (index < 0) {
+                variableNames.add(name);
+                index = variableNames.size() - 1;
+            }
+            
+            emit(PUSH_VARIABLE, index);
+            push();
+        }
+        
+        private void emitOperation(byte operation) {
+            if (operation == NEGATE) {
+                if (instructions[size - 1] == PUSH_NUMBER) {
+                    Money zero = Money.valueOf(0, currency);
+                    replaceNumbers(1, zero.subtract(popNumber()));
+                    return;
+                }
+                
+                emit(NEGATE, 0);
+                return;
+            }
+            
+            if (size >= 2 && instructions[size - 1] == PUSH_NUMBER 
+                    && instructions[size - 2] == PUSH_NUMBER) {
+                Money that = numbers.get(numbers.size() - 1);
+                Money self = numbers.get(numbers.size() - 2);
+                Money result = null;
+                try {
+                    switch (operation) {
+                        case ADD:
+                            result = self.add(that);
+                            break;
+                        case SUBTRACT:
+                            result = self.subtract(that);
+                            break;
+                        default:
+                            result = self.multiply(that);
+                            break;
+                    }
+                } catch (ArithmeticException outOfRange) {
+                    // Left to the evaluator, where only the result has to
+                    // be within the range of Money
+                }
+                
+                if (result != null) {
+                    popNumber();
+                    popNumber();
+                    replaceNumbers(2, result);
+                    return;
+                }
+            }
+            
+            emit(operation, 0);
+            stackSize--;
+        }
+        
+        /**
+         * Removes the last emitted number, which is also the last number in
+         * the list.
+         */
+        private Money popNumber() {
+            size--;
+            return numbers.remove(numbers.size() - 1);
+        }
+        
+        private void replaceNumbers(int count, Money result) {
+            stackSize -= count;
+            emitNumber(result);
+        }
+        
+        private void emit(byte instruction, int operand) {
+            if (size == instructions.length) {
+                instructions = Arrays.copyOf(instructions, size * 2);
+                operands = Arrays.copyOf(operands, size * 2);
+            }
+            
+            instructions[size] = instruction;
+            operands[size] = operand;
+            size++;
+        }
+        
+        private void push() {
+            stackSize++;
+            maxStackSize = Math.max(maxStackSize, stackSize);
+        }
+        
+        private char peek() {
+            skipWhitespace();
+            return (position < expression.length()) ? 
+                    expression.charAt(position) : 0;
+        }
+        
+        private void skipWhitespace() {
+            while (position < expression.length() 
+                    && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+        
+        private static boolean isNumberCharacter(char character) {
+            return (character >= '0' && character <= '9') || character == '.';
+        }
+        
+        private IllegalArgumentException unexpectedCharacter() {
+            if (position >= expression.length()) {
+                return new IllegalArgumentException("Invalid expression. "
+                        + "Unexpected end of expression.");
+            }
+            
+            return new IllegalArgumentException("Invalid expression. "
+                    + "Unexpected character at index " + position + ".");
+        }
+    }
+}
@@ -23,8 +23,8 @@
  */
 package com.github.daytron.daytronmoney.currency;
 
-import com.github.daytron.daytronmoney.utility.StringUtil;
-import java.util.Currency;
+import com.github.daytron.daytronmoney.utility.FlightRecorderUtil;
+import java.nio.ByteBuffer;
 import java.util.Locale;
 
 /**
@@ -35,15 +35,16 @@ import java.util.Locale;
  */
 public class MoneyFactory {
 
-    private static final String DEFAULT_CURRENCY_CODE
-            = Currency.getInstance(Locale.getDefault()).getCurrencyCode();
-    private String currencyCode;
+    private static final CurrencyRegistry.Entry DEFAULT_CURRENCY
+            = CurrencyRegistry.getDefault();
+    private CurrencyRegistry.Entry currency;
+    private final MoneyParser parser = new MoneyParser();
 
     /**
      * Default constructor. Applies default local currency code.
      */
     public MoneyFactory() {
-        this(DEFAULT_CURRENCY_CODE);
+        this.currency = DEFAULT_CURRENCY;
     }
 
     /**
@@ -53,9 +54,7 @@ public class MoneyFactory {
      * currency code (Three letter currency code)
      */
     public MoneyFactory(String currencyCode) {
-        currencyCode = currencyCode.trim();
-        this.currencyCode = (Currency.getInstance(
-                currencyCode.toUpperCase())).getCurrencyCode();
+        this.currency = CurrencyRegistry.of(currencyCode.trim());
     }
 
     /**
@@ -66,7 +65,7 @@ public class MoneyFactory {
      * @param locale A <code>Locale</code> country constant
      */
     public MoneyFactory(Locale locale) {
-        this.currencyCode = Currency.getInstance(locale).getCurrencyCode();
+        this.currency = CurrencyRegistry.of(locale);
     }
 
     /**
@@ -75,7 +74,7 @@ public class MoneyFactory {
      * @return A <code>String</code> object 
      */
     public String getCurrencyCode() {
-        return currencyCode;
+        return currency.getCurrencyCode();
     }
 
     /**
@@ -85,9 +84,7 @@ public class MoneyFactory {
      * currency code (Three letter currency code)
      */
     public void setCurrencyCode(String currencyCode) {
-        currencyCode = currencyCode.trim();
-        this.currencyCode = (Currency.getInstance(
-                currencyCode.toUpperCase())).getCurrencyCode();
+        this.currency = CurrencyRegistry.of(currencyCode.trim());
     }
 
     /**
@@ -96,10 +93,7 @@ public class MoneyFactory {
      * @return Resulting <code>Money</code> object 
      */
     public Money valueOf() {
-        return new Money.Builder()
-                .currencyCode(currencyCode)
-                .sign(SignValue.Positive)
-                .build();
+        return Money.valueOf(0, currency);
     }
     
     /**
@@ -111,18 +105,7 @@ public class MoneyFactory {
      * @return Resulting <code>Money</code> object 
      */
     public Money valueOf(long value) {
-        SignValue sign = SignValue.Positive;
-        
-        if (value < 0) {
-            sign = SignValue.Negative;
-            value = Math.abs(value);
-        }
-        
-        return new Money.Builder()
-                .currencyCode(currencyCode)
-                .sign(sign)
-                .wholeUnit(value)
-                .build();
+        return Money.valueOf(value, currency);
     }
     
     /**
@@ -160,7 +143,7 @@ public class MoneyFactory {
         }
         
         return new Money.Builder()
-                .currencyCode(this.currencyCode)
+                .currency(this.currency)
                 .sign(sign)
                 .wholeUnit(wholeUnit)
                 .decimalUnit(decimalUnit)
@@ -193,159 +176,80 @@ public class MoneyFactory {
      * @return Resulting <code>Money</code> object 
      */
     public Money valueOf(String valueString) {
-        valueString = valueString.trim();
-        if (valueString == null) {
-            throw new NullPointerException("Null input!");
-        }
-        
-        if (valueString.isEmpty()) {
-            return new Money.Builder()
-                    .currencyCode(currencyCode)
-                    .sign(SignValue.Positive)
-                    .build();
-        }
-
-        String[] resultParsedValue = StringUtil.parseAndRemoveCurrencyCode(valueString);
-        valueString = resultParsedValue[1];
-        
-        String newCurrencyCode;
-        if (resultParsedValue[0].isEmpty()) {
-            newCurrencyCode = this.currencyCode;
-        } else {
-            newCurrencyCode = (Currency.getInstance(
-                    resultParsedValue[0])).getCurrencyCode();
+        return parse(valueString, 0, valueString.length());
+    }
+    
+    /**
+     * Creates a <code>Money</code> object from parsing the characters of a
+     * <code>CharSequence</code> from <code>start</code> (inclusive) to 
+     * <code>end</code> (exclusive), without creating a <code>String</code>. 
+     * Accepts the same inputs as {@link #valueOf(String)}.
+     * 
+     * @param value A <code>CharSequence</code> object to be parsed
+     * @param start Index of the first character
+     * @param end Index after the last character
+     * @return Resulting <code>Money</code> object 
+     */
+    public Money valueOf(CharSequence value, int start, int end) {
+        if (start < 0 || end > value.length() || start > end) {
+            throw new IndexOutOfBoundsException("Invalid start or end.");
         }
         
-        long[] parsedData = parseValue(valueString);
-        SignValue sign;
-        long wholeUnit, decimalUnit, leadingDecimalZeros;
-
-        // Parse sign
-        sign = ((parsedData[0] == 1)?SignValue.Positive:SignValue.Negative);
-        
-        wholeUnit = parsedData[1];
-        decimalUnit = parsedData[2];
-        leadingDecimalZeros = parsedData[3];
-        
-        // Normalise sign and leading zero
-        if (wholeUnit == 0 && decimalUnit == 0) {
-            leadingDecimalZeros = 0;
-            sign = SignValue.Positive;
-        }
-
-
-        return new Money.Builder()
-                .currencyCode(newCurrencyCode)
-                .sign(sign)
-                .wholeUnit(wholeUnit)
-                .decimalUnit(decimalUnit)
-                .leadingDecimalZeroes(leadingDecimalZeros)
-                .build();
+        return parse(value, start, end);
     }
-
+    
     /**
-     * Parse String to long values as long arrays. 
+     * Creates a <code>Money</code> object from parsing ASCII or UTF-8 
+     * encoded bytes of an array, without creating a <code>String</code>. 
+     * Accepts the same inputs as {@link #valueOf(String)}.
      * 
-     * @param valueString A <code>String</code> object to be parsed
-     * @return A <code>long</code> array
+     * @param bytes A <code>byte</code> array to be parsed
+     * @param offset Index of the first byte
+     * @param length Number of bytes
+     * @return Resulting <code>Money</code> object 
      */
-    private static long[] parseValue(String valueString) {
-        // First element = sign 1 for positive and 0 for negative
-        // Second element for pounds
-        // Third element for pence
-        final long[] parsedData = new long[4];
-
-        // Removes commas
-        // Allows to accept number string with commas
-        valueString = StringUtil.removeCommas(valueString);
+    public Money valueOf(byte[] bytes, int offset, int length) {
+        return parse(new ByteCharSequence().reset(bytes, offset, length), 0, 
+                length);
+    }
+    
+    /**
+     * Creates a <code>Money</code> object from parsing the remaining ASCII 
+     * or UTF-8 encoded bytes of a buffer, from its position to its limit, 
+     * without creating a <code>String</code>. The position of the buffer is 
+     * not changed. Accepts the same inputs as {@link #valueOf(String)}.
+     * 
+     * @param buffer A <code>ByteBuffer</code> object to be parsed
+     * @return Resulting <code>Money</code> object 
+     */
+    public Money valueOf(ByteBuffer buffer) {
+        ByteCharSequence byteSequence = new ByteCharSequence().reset(buffer);
+        return parse(byteSequence, 0, byteSequence.length());
+    }
+    
+    /**
+     * Parses the characters from <code>start</code> to <code>end</code> 
+     * and reports it to the installed <code>MoneyMetrics</code>. Failures 
+     * are also recorded as Java Flight Recorder events.
+     */
+    private Money parse(CharSequence value, int start, int end) {
+        MoneyMetrics metrics = Metrics.installed;
+        boolean timed = metrics.isTimed(MoneyMetrics.Operation.PARSE);
+        long startTime = timed ? System.nanoTime() : 0;
         
-        /*
-         Regex conditions:
-         ^   = Beginning of the line
-         [+-]?  = Optional Sign 
-         [0-9]{1,19} = 1 or 19 digits including zero
-         \\. = Literal point symbol, 
-             (escaped, because in regex, . is a special character)
-         (\\.[0-9]{1,19})? = An optional decimal value must have at least
-                             one digit after the dot
-         $   = End of the line.
-         */
-        if (valueString.matches("^[-+]?[0-9]{1,19}(\\.[0-9]{1,19})?$")) {
-            
-            // Determines sign and then removes it
-            // 1 for positive and 0 for negative
-            if (valueString.contains("-")) {
-                parsedData[0] = 0;
-
-                // Removes sign
-                valueString = valueString.substring(1);
-            } else if (valueString.contains("+")) {
-                parsedData[0] = 1;
-
-                // Removes sign
-                valueString = valueString.substring(1);
-            } else {
-                parsedData[0] = 1;
-            }
-
-            String[] splitString = valueString.split("\\.");
-            
-            if (splitString.length > 1) {
-                parsedData[1] = Long.valueOf(splitString[0]);
-                
-                // Filters single digit decimal number as two digits
-                // Ex. 1.2 is 1.20 and NOT 1.02
-                if (splitString[1].length() == 1 && 
-                        splitString[1].charAt(0) != '0') {
-                    splitString[1] += "0";
-                }
-                
-                // Filter if all decimal values are pure repeating zeroes
-                // Otherwise process remaining zeroess
-                if (splitString[1].matches("[0]{1,}")) {
-                    parsedData[2] = 0;
-                    parsedData[3] = 0;
-                } else {
-                    long decimalResult[] = 
-                            StringUtil.analyzeDecimalValue(splitString[1]);
-                    parsedData[2] = decimalResult[1];
-                    parsedData[3] = decimalResult[0];
-                }
-            } else {
-                parsedData[1] = Long.valueOf(splitString[0]);
-                parsedData[2] = 0;
-                parsedData[3] = 0;
+        Money money;
+        try {
+            money = parser.parse(value, start, end, currency);
+        } catch (RuntimeException e) {
+            metrics.parseFailed();
+            if (FlightRecorderUtil.isRecorderActive()) {
+                ParseFailureEvent.record(value, start, end, e);
             }
-            
-            return parsedData;
-
-        } else if ((valueString.indexOf('.', valueString.indexOf('.') + 1) != -1)) {
-            /*
-             Throws an illegal argument exeption if multiple occurences of dot 
-             are detected in the argument input.
-             */
-            throw new IllegalArgumentException("Invalid number entry. "
-                    + "Multiple dots detected.");
-        } else if (valueString.charAt(0) == '.' || valueString.contains("+.")
-                || valueString.contains("-.")) {
-            /*
-             Throws an illegal argument exception if a dot is detected in
-             the first character or any sign followed by a dot.
-             */
-            throw new IllegalArgumentException("Invalid number entry. "
-                    + "Invalid use of decimal point.");
-        } else if (valueString.matches("^[-+]{2,}\\d{1,}\\.?\\d*$")) {
-            /*
-             Throws an illegal argument exception if multiple characters of the 
-             sign symbols are detected.
-             */
-            throw new IllegalArgumentException("Invalid number entry. "
-                    + "Invalid use of sign symbols.");
-        } else {
-            // Throws a standard illegal argument exception
-            throw new IllegalArgumentException("Invalid number entry.");
+            throw e;
         }
+        
+        metrics.operationCompleted(MoneyMetrics.Operation.PARSE, 
+                timed ? System.nanoTime() - startTime : MoneyMetrics.NOT_TIMED);
+        return money;
     }
-    
-    
 }
@@ -0,0 +1,113 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.currency;
+
+/**
+ * A listener for the operations and parsing done by the library, for 
+ * exporting counters without changing any call site. Install an 
+ * implementation with <code>MoneyMetrics.install</code>, by default no 
+ * metrics are recorded.
+ * 
+ * <p>Implementations are called from every thread doing money operations, 
+ * so they must be thread-safe and cheap. Latencies are only measured for 
+ * the calls an implementation asks for with <code>isTimed</code>, so 
+ * sampling them costs nothing for the other calls.</p>
+ * 
+ * @author Ryan Gilera
+ */
+public interface MoneyMetrics {
+    
+    /**
+     * The value of the latency argument for calls that were not timed.
+     */
+    public static final long NOT_TIMED = -1;
+    
+    /**
+     * Types of recorded operations.
+     */
+    public enum Operation {
+        ADDITION, SUBTRACTION, MULTIPLICATION, DIVISION, POWER, PARSE
+    }
+    
+    /**
+     * Installs the metrics for all operations from now on, replacing the 
+     * previously installed metrics.
+     * 
+     * @param metrics <code>MoneyMetrics</code> object
+     */
+    public static void install(MoneyMetrics metrics) {
+        if (metrics == null) {
+            throw new NullPointerException("Cannot accept null input.");
+        }
+        
+        Metrics.installed = metrics;
+    }
+    
+    /**
+     * Removes the installed metrics, so no metrics are recorded.
+     */
+    public static void uninstall() {
+        Metrics.installed = Metrics.NONE;
+    }
+    
+    /**
+     * Returns the installed metrics, which does nothing if none was 
+     * installed.
+     * 
+     * @return <code>MoneyMetrics</code> object
+     */
+    public static MoneyMetrics installed() {
+        return Metrics.installed;
+    }
+    
+    /**
+     * Decides whether the latency of the next operation is measured.
+     * 
+     * @param operation Type of the next operation
+     * @return <code>true</code> to measure the latency
+     */
+    public boolean isTimed(Operation operation);
+    
+    /**
+     * Called after an operation completed or an amount was parsed.
+     * 
+     * @param operation Type of the completed operation
+     * @param nanos Latency in nanoseconds, or <code>NOT_TIMED</code>
+     */
+    public void operationCompleted(Operation operation, long nanos);
+    
+    /**
+     * Called when an operation falls back to <code>BigInteger</code> or 
+     * <code>BigDecimal</code> arithmetic because its values do not fit 
+     * into <code>long</code> values.
+     * 
+     * @param operation Type of the operation
+     */
+    public void bigIntegerFallback(Operation operation);
+    
+    /**
+     * Called when an amount cannot be parsed.
+     */
+    public void parseFailed();
+}
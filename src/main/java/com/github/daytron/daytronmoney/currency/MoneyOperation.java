@@ -23,12 +23,26 @@
  */
 package com.github.daytron.daytronmoney.currency;
 
+import com.github.daytron.daytronmoney.utility.ArithmeticUtil;
+import com.github.daytron.daytronmoney.utility.FlightRecorderUtil;
+import com.github.daytron.daytronmoney.utility.Int128;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
 /**
  * A abstract class as the base for all money operations.
  * 
  * @author Ryan Gilera
  */
 abstract class MoneyOperation {
+    
+    /**
+     * Message of the <code>ArithmeticException</code> thrown when a result 
+     * cannot be represented by a <code>Money</code> object.
+     */
+    protected static final String OUT_OF_RANGE_MESSAGE = 
+            "Result exceeds the range of Money.";
+    
     private final Money thisMoney;
     private final Money thatMoney;
     
@@ -63,10 +77,385 @@ abstract class MoneyOperation {
     }
     
     /**
-     * An abstract method for the operation execution.
+     * Executes the operation and reports it to the installed 
+     * <code>MoneyMetrics</code>, and to Java Flight Recorder when it is 
+     * slower than the threshold of <code>MoneyOperationEvent</code>.
+     * 
+     * @return A <code>Money</code> object
+     */
+    public final Money execute() {
+        MoneyMetrics metrics = Metrics.installed;
+        MoneyMetrics.Operation operation = getOperation();
+        boolean timed = metrics.isTimed(operation);
+        long start = timed ? System.nanoTime() : 0;
+        
+        Money result = (FlightRecorderUtil.isRecorderActive() 
+                && MoneyOperationEvent.isTypeEnabled()) ? 
+                calculateRecorded(operation) : calculate();
+        
+        metrics.operationCompleted(operation, 
+                timed ? System.nanoTime() - start : MoneyMetrics.NOT_TIMED);
+        return result;
+    }
+    
+    private Money calculateRecorded(MoneyMetrics.Operation operation) {
+        MoneyOperationEvent event = new MoneyOperationEvent();
+        event.begin();
+        Money result = calculate();
+        event.end();
+        
+        if (event.shouldCommit()) {
+            event.setOperation(operation, thisMoney, thatMoney);
+            event.commit();
+        }
+        
+        return result;
+    }
+    
+    /**
+     * An abstract method for the operation calculation, without reporting 
+     * it to the metrics. Operations built on other operations call this 
+     * method of them, so only the outer operation is reported.
+     * 
+     * @return A <code>Money</code> object
+     */
+    protected abstract Money calculate();
+    
+    /**
+     * Returns the type of this operation for the metrics.
+     * 
+     * @return <code>MoneyMetrics.Operation</code> value
+     */
+    protected abstract MoneyMetrics.Operation getOperation();
+    
+    /**
+     * Reports to the installed metrics that this operation falls back to 
+     * <code>BigInteger</code> or <code>BigDecimal</code> arithmetic.
+     */
+    protected void reportBigIntegerFallback() {
+        Metrics.installed.bigIntegerFallback(getOperation());
+    }
+    
+    /**
+     * Decides whether the truncated quotient must be incremented in 
+     * magnitude, based on the remainder of the division and the rounding mode.
+     * 
+     * @param quotient Truncated quotient magnitude, only its parity is used
+     * @param remainder Remainder of the division, less than the divisor
+     * @param divisor Divisor magnitude
+     * @param sign Sign of the quotient
+     * @param roundingMode <code>RoundingMode</code> for the discarded digits
+     * @return <code>boolean</code> value
+     */
+    protected static boolean isRoundedAway(long quotient, long remainder, 
+            long divisor, SignValue sign, RoundingMode roundingMode) {
+        if (remainder == 0) {
+            return false;
+        }
+        
+        // Compares the remainder with half of the divisor without overflow
+        int halfComparison = Long.compare(remainder, divisor - remainder);
+        
+        switch (roundingMode) {
+            case UP:
+                return true;
+            case DOWN:
+                return false;
+            case CEILING:
+                return sign == SignValue.Positive;
+            case FLOOR:
+                return sign == SignValue.Negative;
+            case HALF_UP:
+                return halfComparison >= 0;
+            case HALF_DOWN:
+                return halfComparison > 0;
+            case HALF_EVEN:
+                return halfComparison > 0 
+                        || (halfComparison == 0 && (quotient & 1) == 1);
+            default:
+                throw new ArithmeticException("Rounding necessary");
+        }
+    }
+    
+    /**
+     * Returns the number of decimal places of a <code>Money</code> object,
+     * counting leading zeroes. Whole numbers have a scale of zero.
+     * 
+     * @param money A <code>Money</code> object
+     * @return <code>integer</code> value
+     */
+    protected static int scaleOf(Money money) {
+        return money.getScale();
+    }
+    
+    /**
+     * Returns the signed unscaled value of a <code>Money</code> object 
+     * aligned to the given scale. Throws an <code>ArithmeticException</code> 
+     * if it does not fit into a <code>long</code> value.
+     * 
+     * @param money A <code>Money</code> object
+     * @param scale Target scale, not less than the scale of the money
+     * @return <code>long</code> value
+     */
+    protected static long unscaledOf(Money money, int scale) {
+        long unscaled = money.isInflated() ? Long.MIN_VALUE : 
+                ArithmeticUtil.scaleUp(money.getUnscaledValue(), 
+                        scale - money.getScale());
+        
+        // Keeps the magnitude of the unscaled value within range
+        if (unscaled == Long.MIN_VALUE) {
+            throw new ArithmeticException("long overflow");
+        }
+        
+        return unscaled;
+    }
+    
+    /**
+     * Returns the signed unscaled value of a <code>Money</code> object 
+     * aligned to the given scale as a <code>BigInteger</code>.
+     * 
+     * @param money A <code>Money</code> object
+     * @param scale Target scale, not less than the scale of the money
+     * @return <code>BigInteger</code> object
+     */
+    protected static BigInteger bigUnscaledOf(Money money, int scale) {
+        return money.getBigUnscaledValue()
+                .multiply(BigInteger.TEN.pow(scale - money.getScale()));
+    }
+    
+    /**
+     * Creates a <code>Money</code> object with the currency of the first
+     * operand from a signed unscaled value and its scale. Any trailing zeroes
+     * within the scale are kept as part of the decimal unit.
      * 
+     * @param unscaled Signed unscaled <code>long</code> value
+     * @param scale <code>integer</code> value of the decimal places
      * @return A <code>Money</code> object
      */
-    public abstract Money execute();
+    protected Money toMoney(long unscaled, int scale) {
+        return toMoney(unscaled, scale, thisMoney.getCurrency());
+    }
+    
+    /**
+     * Creates a <code>Money</code> object of the given currency from a signed
+     * unscaled value and its scale. Any trailing zeroes within the scale are
+     * kept as part of the decimal unit.
+     * 
+     * @param unscaled Signed unscaled <code>long</code> value
+     * @param scale <code>integer</code> value of the decimal places
+     * @param currency <code>CurrencyRegistry.Entry</code> of the result
+     * @return A <code>Money</code> object
+     */
+    protected static Money toMoney(long unscaled, int scale, 
+            CurrencyRegistry.Entry currency) {
+        if (unscaled == Long.MIN_VALUE) {
+            return toMoney(BigInteger.valueOf(unscaled), scale, currency);
+        }
+        
+        return Money.ofUnscaled(unscaled, scale, currency);
+    }
+    
+    /**
+     * Creates a <code>Money</code> object with the currency of the first
+     * operand from a signed unscaled <code>BigInteger</code> and its scale.
+     * Throws an <code>ArithmeticException</code> if the whole or decimal unit 
+     * does not fit into a <code>long</code> value.
+     * 
+     * @param unscaled Signed unscaled <code>BigInteger</code> value
+     * @param scale <code>integer</code> value of the decimal places
+     * @return A <code>Money</code> object
+     */
+    protected Money toMoney(BigInteger unscaled, int scale) {
+        return toMoney(unscaled, scale, thisMoney.getCurrency());
+    }
+    
+    /**
+     * Creates a <code>Money</code> object of the given currency from a signed
+     * unscaled <code>BigInteger</code> and its scale. Throws an 
+     * <code>ArithmeticException</code> if the whole or decimal unit does not 
+     * fit into a <code>long</code> value.
+     * 
+     * @param unscaled Signed unscaled <code>BigInteger</code> value
+     * @param scale <code>integer</code> value of the decimal places
+     * @param currency <code>CurrencyRegistry.Entry</code> of the result
+     * @return A <code>Money</code> object
+     */
+    protected static Money toMoney(BigInteger unscaled, int scale, 
+            CurrencyRegistry.Entry currency) {
+        BigInteger[] wholeAndDecimal = unscaled.abs()
+                .divideAndRemainder(BigInteger.TEN.pow(scale));
+        
+        if (wholeAndDecimal[0].bitLength() >= Long.SIZE 
+                || wholeAndDecimal[1].bitLength() >= Long.SIZE) {
+            throw new ArithmeticException(OUT_OF_RANGE_MESSAGE);
+        }
+        
+        return buildMoney((unscaled.signum() < 0) ? SignValue.Negative : 
+                SignValue.Positive, wholeAndDecimal[0].longValue(), 
+                wholeAndDecimal[1].longValue(), scale, currency);
+    }
+    
+    /**
+     * Creates a <code>Money</code> object with the currency of the first
+     * operand from a signed unscaled value and its scale. Trailing zeroes of
+     * the decimal unit are removed, except that a single decimal digit is 
+     * kept in tens (0.5 is stored as 50).
+     * 
+     * @param unscaled Signed unscaled <code>long</code> value
+     * @param scale <code>integer</code> value of the decimal places
+     * @return A <code>Money</code> object
+     */
+    protected Money toStrippedMoney(long unscaled, int scale) {
+        if (unscaled == Long.MIN_VALUE) {
+            return toStrippedMoney(BigInteger.valueOf(unscaled), scale);
+        }
+        
+        SignValue sign = (unscaled < 0) ? SignValue.Negative : SignValue.Positive;
+        long magnitude = Math.abs(unscaled);
+        
+        // Any long value is less than 10^19, so there is no whole unit
+        if (scale > ArithmeticUtil.MAX_LONG_SCALE) {
+            return toStrippedMoney(sign, 0, magnitude, scale);
+        }
+        
+        long divisor = ArithmeticUtil.powerOfTen(scale);
+        return toStrippedMoney(sign, magnitude / divisor, magnitude % divisor, 
+                scale);
+    }
+    
+    /**
+     * Creates a <code>Money</code> object with the currency of the first
+     * operand from its sign, whole unit and decimal digits at the given 
+     * scale. Trailing zeroes are removed the same way as the other versions.
+     * 
+     * @param sign <code>SignValue</code> of a non-zero result
+     * @param wholeUnit <code>long</code> value of the whole unit
+     * @param decimalUnit <code>long</code> value of the decimal digits
+     * @param scale <code>integer</code> value of the decimal places
+     * @return A <code>Money</code> object
+     */
+    protected Money toStrippedMoney(SignValue sign, long wholeUnit, 
+            long decimalUnit, int scale) {
+        while (scale > 0 && decimalUnit % 10 == 0) {
+            decimalUnit /= 10;
+            scale--;
+        }
+        
+        if (scale == 1) {
+            decimalUnit *= 10;
+            scale = 2;
+        }
+        
+        if (wholeUnit == 0 && decimalUnit == 0) {
+            sign = SignValue.Positive;
+        }
+        
+        return buildMoney(sign, wholeUnit, decimalUnit, scale, 
+                thisMoney.getCurrency());
+    }
+    
+    /**
+     * Creates a <code>Money</code> object with the currency of the first
+     * operand from a signed unscaled 128-bit value and its scale. Trailing 
+     * zeroes are removed the same way as the <code>long</code> version. 
+     * Throws an <code>ArithmeticException</code> if the result does not fit 
+     * into a <code>Money</code> object. The argument is modified.
+     * 
+     * @param unscaled Signed unscaled <code>Int128</code> value
+     * @param scale <code>integer</code> value of the decimal places
+     * @return A <code>Money</code> object
+     */
+    protected Money toStrippedMoney(Int128 unscaled, int scale) {
+        SignValue sign = (unscaled.signum() < 0) ? SignValue.Negative : 
+                SignValue.Positive;
+        if (sign == SignValue.Negative) {
+            unscaled.negate();
+        }
+        
+        while (scale > 0 && unscaled.remainder(10) == 0) {
+            unscaled.divideAndRemainder(10);
+            scale--;
+        }
+        
+        if (unscaled.fitsInLong()) {
+            long value = unscaled.longValue();
+            return toStrippedMoney((sign == SignValue.Negative) ? -value : value, 
+                    scale);
+        }
+        
+        long decimalUnit;
+        if (scale <= ArithmeticUtil.MAX_LONG_SCALE) {
+            decimalUnit = unscaled.divideAndRemainder(
+                    ArithmeticUtil.powerOfTen(scale));
+        } else {
+            // Split off the lowest 18 digits first, the remaining decimal 
+            // digits must be a single digit for the decimal unit to fit
+            long lowerDigits = unscaled.divideAndRemainder(
+                    ArithmeticUtil.powerOfTen(ArithmeticUtil.MAX_LONG_SCALE));
+            int upperScale = scale - ArithmeticUtil.MAX_LONG_SCALE;
+            long upperDigits;
+            if (upperScale <= ArithmeticUtil.MAX_LONG_SCALE) {
+                upperDigits = unscaled.divideAndRemainder(
+                        ArithmeticUtil.powerOfTen(upperScale));
+            } else if (unscaled.fitsInLong()) {
+                upperDigits = unscaled.longValue();
+                unscaled.set(0);
+            } else {
+                throw new ArithmeticException(OUT_OF_RANGE_MESSAGE);
+            }
+            
+            try {
+                decimalUnit = Math.addExact(lowerDigits, ArithmeticUtil.scaleUp(
+                        upperDigits, ArithmeticUtil.MAX_LONG_SCALE));
+            } catch (ArithmeticException overflow) {
+                throw new ArithmeticException(OUT_OF_RANGE_MESSAGE);
+            }
+        }
+        
+        if (!unscaled.fitsInLong() || decimalUnit < 0) {
+            throw new ArithmeticException(OUT_OF_RANGE_MESSAGE);
+        }
+        
+        return toStrippedMoney(sign, unscaled.longValue(), decimalUnit, scale);
+    }
+    
+    /**
+     * Creates a <code>Money</code> object with the currency of the first
+     * operand from a signed unscaled <code>BigInteger</code> and its scale. 
+     * Trailing zeroes are removed the same way as the <code>long</code> 
+     * version.
+     * 
+     * @param unscaled Signed unscaled <code>BigInteger</code> value
+     * @param scale <code>integer</code> value of the decimal places
+     * @return A <code>Money</code> object
+     */
+    protected Money toStrippedMoney(BigInteger unscaled, int scale) {
+        while (scale > 0 && unscaled.signum() != 0 
+                && unscaled.mod(BigInteger.TEN).signum() == 0) {
+            unscaled = unscaled.divide(BigInteger.TEN);
+            scale--;
+        }
+        
+        if (unscaled.signum() == 0) {
+            scale = 0;
+        }
+        
+        if (scale == 1) {
+            return toMoney(unscaled.multiply(BigInteger.TEN), 2);
+        }
+        
+        return toMoney(unscaled, scale);
+    }
+    
+    private static Money buildMoney(SignValue sign, long wholeUnit, 
+            long decimalUnit, int scale, CurrencyRegistry.Entry currency) {
+        if (decimalUnit == 0) {
+            return Money.valueOf((sign == SignValue.Negative) ? -wholeUnit : 
+                    wholeUnit, currency);
+        }
+        
+        // Results of the operations are already normalized
+        return Money.ofUnits(sign, wholeUnit, decimalUnit, scale, currency);
+    }
     
 }
@@ -0,0 +1,86 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.currency;
+
+import com.github.daytron.daytronmoney.utility.FlightRecorderUtil;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * A Java Flight Recorder event for a money operation taking longer than 
+ * the threshold, 20 microseconds unless changed in the recording settings.
+ * 
+ * @author Ryan Gilera
+ */
+@Name("com.github.daytron.daytronmoney.MoneyOperation")
+@Label("Money Operation")
+@Category(FlightRecorderUtil.CATEGORY)
+@Description("A slow addition, subtraction, multiplication, division or "
+        + "power of Money objects")
+@Threshold("20 us")
+final class MoneyOperationEvent extends Event {
+    
+    private static final EventType TYPE = 
+            EventType.getEventType(MoneyOperationEvent.class);
+    
+    @Label("Operation")
+    private String operation;
+    
+    @Label("This Scale")
+    @Description("Number of decimal places of the first operand")
+    private int thisScale;
+    
+    @Label("That Scale")
+    @Description("Number of decimal places of the second operand")
+    private int thatScale;
+    
+    /**
+     * Checks if a recording has this event enabled, without creating an 
+     * event for every operation.
+     * 
+     * @return <code>boolean</code> value
+     */
+    static boolean isTypeEnabled() {
+        return TYPE.isEnabled();
+    }
+    
+    /**
+     * Sets the operation and the scales of its operands.
+     * 
+     * @param operation Type of the operation
+     * @param thisMoney The first operand
+     * @param thatMoney The second operand, may be <code>null</code>
+     */
+    void setOperation(MoneyMetrics.Operation operation, Money thisMoney, 
+            Money thatMoney) {
+        this.operation = operation.name();
+        this.thisScale = thisMoney.getScale();
+        this.thatScale = (thatMoney == null) ? 0 : thatMoney.getScale();
+    }
+}
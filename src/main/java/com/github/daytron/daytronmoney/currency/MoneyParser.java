@@ -0,0 +1,396 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.currency;
+
+import com.github.daytron.daytronmoney.utility.ArithmeticUtil;
+
+/**
+ * <p>Single-pass scanner behind <code>MoneyFactory.valueOf(String)</code>. 
+ * Reads the optional currency code, the sign, the whole unit and the 
+ * decimal unit directly from the characters of the input without regular 
+ * expressions or intermediate <code>String</code> objects.
+ * 
+ * <p>Accepts exactly the inputs of the previous regular expression based 
+ * parser and throws the same exceptions for invalid inputs. The scanner 
+ * is safe to share between threads, its only state is a cache of the 
+ * last currency code.
+ * 
+ * @author Ryan Gilera
+ */
+final class MoneyParser {
+    
+    private static final int MAX_DIGITS = 19;
+    
+    private static final char COMMA_CHARACTER = ',';
+    private static final char DECIMAL_POINT_CHARACTER = '.';
+    private static final char MINUS_CHARACTER = '-';
+    private static final char PLUS_CHARACTER = '+';
+    private static final char ZERO_CHARACTER = '0';
+    
+    // Last currency code seen with its entry, so repeated codes are 
+    // resolved without creating a String. Replaced as a whole, so threads
+    // sharing the parser never see a code with another code's entry.
+    private LastCurrency lastCurrency;
+    
+    /**
+     * A currency code and its registry entry.
+     */
+    private static final class LastCurrency {
+        private final String code;
+        private final CurrencyRegistry.Entry entry;
+        
+        private LastCurrency(String code, CurrencyRegistry.Entry entry) {
+            this.code = code;
+            this.entry = entry;
+        }
+    }
+    
+    /**
+     * Parses the characters between <code>start</code> (inclusive) and 
+     * <code>end</code> (exclusive) into a <code>Money</code> object. The 
+     * given currency is used if the input has no currency code.
+     * 
+     * @param input <code>CharSequence</code> to parse
+     * @param start Index of the first character
+     * @param end Index after the last character
+     * @param defaultCurrency <code>CurrencyRegistry.Entry</code> used if 
+     * no currency code is present
+     * @return Resulting <code>Money</code> object
+     */
+    Money parse(CharSequence input, int start, int end, 
+            CurrencyRegistry.Entry defaultCurrency) {
+        // Same as String.trim()
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        while (start < end && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        
+        if (start == end) {
+            return Money.valueOf(0, defaultCurrency);
+        }
+        
+        // Text before the first whitespace is the currency code and the 
+        // value runs until the next whitespace. Without whitespace, any 
+        // characters before the first sign or digit are the currency code.
+        int codeEnd = indexOfWhitespace(input, start, end);
+        int valueStart, valueEnd;
+        if (codeEnd < end) {
+            valueStart = codeEnd + 1;
+            valueEnd = indexOfWhitespace(input, valueStart, end);
+        } else {
+            codeEnd = start;
+            while (codeEnd < end && !isSignOrDigit(input.charAt(codeEnd))) {
+                codeEnd++;
+            }
+            
+            valueStart = codeEnd;
+            valueEnd = end;
+        }
+        
+        CurrencyRegistry.Entry currency = (codeEnd == start) ? 
+                defaultCurrency : toCurrency(input, start, codeEnd);
+        
+        return scanValue(input, valueStart, valueEnd, currency);
+    }
+    
+    /**
+     * Scans a value of an optional sign, 1 to 19 whole digits and an 
+     * optional decimal point followed by 1 to 19 decimal digits. Commas 
+     * are ignored anywhere in the value.
+     * 
+     * @param input <code>CharSequence</code> to parse
+     * @param start Index of the first character of the value
+     * @param end Index after the last character of the value
+     * @param currency <code>CurrencyRegistry.Entry</code> of the value
+     * @return Resulting <code>Money</code> object
+     */
+    private static Money scanValue(CharSequence input, int start, int end, 
+            CurrencyRegistry.Entry currency) {
+        int index = skipCommas(input, start, end);
+        
+        SignValue newSign = SignValue.Positive;
+        if (index < end) {
+            char character = input.charAt(index);
+            if (character == MINUS_CHARACTER || character == PLUS_CHARACTER) {
+                if (character == MINUS_CHARACTER) {
+                    newSign = SignValue.Negative;
+                }
+                index = skipCommas(input, index + 1, end);
+            }
+        }
+        
+        // Up to 19 digits always fit in an unsigned long, so a digit 
+        // count of 19 with a negative result means the value exceeds 
+        // the range of long.
+        int wholeStart = index;
+        int wholeDigits = 0;
+        long whole = 0;
+        while (index < end) {
+            int digit = input.charAt(index) - ZERO_CHARACTER;
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            
+            whole = whole * 10 + digit;
+            wholeDigits++;
+            index = skipCommas(input, index + 1, end);
+        }
+        
+        if (wholeDigits == 0 || wholeDigits > MAX_DIGITS) {
+            throw invalidValue(input, start, end);
+        }
+        
+        int decimalDigits = 0;
+        int firstNonZeroIndex = -1;
+        int firstNonZeroDigit = 0;
+        int significantDigits = 0;
+        long decimal = 0;
+        if (index < end) {
+            if (input.charAt(index) != DECIMAL_POINT_CHARACTER) {
+                throw invalidValue(input, start, end);
+            }
+            
+            index = skipCommas(input, index + 1, end);
+            
+            // Accumulates the digits from the first non-zero digit and 
+            // keeps the value up to the last non-zero digit
+            long accumulated = 0;
+            int accumulatedDigits = 0;
+            while (index < end) {
+                int digit = input.charAt(index) - ZERO_CHARACTER;
+                if (digit < 0 || digit > 9) {
+                    throw invalidValue(input, start, end);
+                }
+                
+                if (digit != 0 && firstNonZeroIndex < 0) {
+                    firstNonZeroIndex = index;
+                    firstNonZeroDigit = decimalDigits;
+                }
+                
+                if (firstNonZeroIndex >= 0) {
+                    accumulated = accumulated * 10 + digit;
+                    accumulatedDigits++;
+                    if (digit != 0) {
+                        decimal = accumulated;
+                        significantDigits = accumulatedDigits;
+                    }
+                }
+                
+                decimalDigits++;
+                index = skipCommas(input, index + 1, end);
+            }
+            
+            if (decimalDigits == 0 || decimalDigits > MAX_DIGITS) {
+                throw invalidValue(input, start, end);
+            }
+        }
+        
+        if (wholeDigits == MAX_DIGITS && whole < 0) {
+            throw forInputDigits(input, wholeStart, wholeDigits);
+        }
+        
+        if (firstNonZeroIndex < 0) {
+            // Pure zeroes or no decimal point at all
+            decimal = 0;
+            firstNonZeroDigit = 0;
+        } else if (firstNonZeroDigit == 0 && significantDigits == 1) {
+            // A single significant digit in the first decimal place 
+            // keeps one trailing zero, ex. 1.2 is 1.20 and NOT 1.02
+            decimal *= 10;
+        } else if (significantDigits == MAX_DIGITS && decimal < 0) {
+            throw forInputDigits(input, firstNonZeroIndex, 
+                    significantDigits);
+        }
+        
+        // Whole numbers, including any zero, may be shared instances
+        if (decimal == 0) {
+            return Money.valueOf((newSign == SignValue.Negative) ? -whole : 
+                    whole, currency);
+        }
+        
+        // The scanned units are already valid, so the checks of the 
+        // Builder are skipped
+        return Money.ofUnits(newSign, whole, decimal, firstNonZeroDigit 
+                + ArithmeticUtil.digitCount(decimal), currency);
+    }
+    
+    /**
+     * Returns the entry of the currency code between <code>start</code> 
+     * and <code>end</code>. The last code is remembered so a repeated 
+     * code needs no new <code>String</code>.
+     * 
+     * @param input <code>CharSequence</code> to parse
+     * @param start Index of the first character of the code
+     * @param end Index after the last character of the code
+     * @return <code>CurrencyRegistry.Entry</code> object
+     */
+    private CurrencyRegistry.Entry toCurrency(CharSequence input, 
+            int start, int end) {
+        LastCurrency last = lastCurrency;
+        if (last != null && last.code.length() == end - start) {
+            int index = 0;
+            while (index < last.code.length() 
+                    && last.code.charAt(index) == input.charAt(start + index)) {
+                index++;
+            }
+            
+            if (index == last.code.length()) {
+                return last.entry;
+            }
+        }
+        
+        String code = input.subSequence(start, end).toString();
+        CurrencyRegistry.Entry entry = CurrencyRegistry.of(code.toUpperCase());
+        lastCurrency = new LastCurrency(code, entry);
+        return entry;
+    }
+    
+    /**
+     * Creates the exception for a value that is not a valid number, with
+     * the same message the regular expression based parser used. Commas are
+     * ignored like in the rest of the value.
+     * 
+     * @param input <code>CharSequence</code> to parse
+     * @param start Index of the first character of the value
+     * @param end Index after the last character of the value
+     * @return <code>RuntimeException</code> to throw
+     */
+    private static RuntimeException invalidValue(CharSequence input, 
+            int start, int end) {
+        int dots = 0;
+        int signs = 0;
+        int digitsAfterSigns = 0;
+        boolean isSignAndDigitsOnly = true;
+        int first = -1;
+        char previous = 0;
+        boolean isSignBeforeDot = false;
+        for (int i = start; i < end; i++) {
+            char character = input.charAt(i);
+            if (character == COMMA_CHARACTER) {
+                continue;
+            }
+            
+            if (first < 0) {
+                first = character;
+            }
+            
+            boolean isSign = character == MINUS_CHARACTER 
+                    || character == PLUS_CHARACTER;
+            if (character == DECIMAL_POINT_CHARACTER) {
+                dots++;
+                isSignBeforeDot |= previous == MINUS_CHARACTER 
+                        || previous == PLUS_CHARACTER;
+                isSignAndDigitsOnly &= digitsAfterSigns > 0 && dots == 1;
+            } else if (isSign) {
+                isSignAndDigitsOnly &= digitsAfterSigns == 0 && dots == 0;
+                signs++;
+            } else if (character >= '0' && character <= '9') {
+                if (dots == 0) {
+                    digitsAfterSigns++;
+                }
+            } else {
+                isSignAndDigitsOnly = false;
+            }
+            
+            previous = character;
+        }
+        
+        if (dots > 1) {
+            return new IllegalArgumentException("Invalid number entry. "
+                    + "Multiple dots detected.");
+        }
+        
+        if (first < 0) {
+            // An empty value failed on its first character
+            return new StringIndexOutOfBoundsException(0);
+        }
+        
+        if (first == DECIMAL_POINT_CHARACTER || isSignBeforeDot) {
+            return new IllegalArgumentException("Invalid number entry. "
+                    + "Invalid use of decimal point.");
+        }
+        
+        if (isSignAndDigitsOnly && signs >= 2 && digitsAfterSigns > 0) {
+            return new IllegalArgumentException("Invalid number entry. "
+                    + "Invalid use of sign symbols.");
+        }
+        
+        return new IllegalArgumentException("Invalid number entry.");
+    }
+    
+    /**
+     * Creates the <code>NumberFormatException</code> of 
+     * <code>Long.valueOf</code> for digits that exceed the range of 
+     * <code>long</code>.
+     * 
+     * @param input <code>CharSequence</code> to parse
+     * @param start Index of the first digit
+     * @param digits Number of digits, not counting commas
+     * @return <code>NumberFormatException</code> to throw
+     */
+    private static NumberFormatException forInputDigits(CharSequence input, 
+            int start, int digits) {
+        StringBuilder builder = new StringBuilder(digits);
+        for (int i = start; builder.length() < digits; i++) {
+            char character = input.charAt(i);
+            if (character != COMMA_CHARACTER) {
+                builder.append(character);
+            }
+        }
+        
+        return new NumberFormatException("For input string: \"" 
+                + builder + "\"");
+    }
+    
+    private static int skipCommas(CharSequence input, int index, int end) {
+        while (index < end && input.charAt(index) == COMMA_CHARACTER) {
+            index++;
+        }
+        
+        return index;
+    }
+    
+    private static int indexOfWhitespace(CharSequence input, int index, 
+            int end) {
+        while (index < end && !isWhitespace(input.charAt(index))) {
+            index++;
+        }
+        
+        return index;
+    }
+    
+    // Same characters as \s in a regular expression
+    private static boolean isWhitespace(char character) {
+        return character == ' ' || character == '\t' || character == '\n' 
+                || character == '\u000B' || character == '\f' 
+                || character == '\r';
+    }
+    
+    private static boolean isSignOrDigit(char character) {
+        return character == PLUS_CHARACTER || character == MINUS_CHARACTER 
+                || (character >= '0' && character <= '9');
+    }
+}
@@ -0,0 +1,795 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.currency;
+
+import com.github.daytron.daytronmoney.collection.MoneyCollection;
+import com.github.daytron.daytronmoney.exception.CurrencyDidNotMatchException;
+import com.github.daytron.daytronmoney.utility.ArithmeticUtil;
+import com.github.daytron.daytronmoney.utility.Int128;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+/**
+ * A growable collection of <code>Money</code> objects of one currency, 
+ * stored as unscaled <code>long</code> values in a single array with a 
+ * scale shared by all values. A value takes eight bytes instead of a 
+ * <code>Money</code> object, and the sums, scans and element-wise 
+ * additions and multiplications are plain loops over the array that the 
+ * JIT can unroll and vectorize.
+ * 
+ * <p>Adding a value with more decimal places widens the shared scale of 
+ * all values. Every value must fit into a <code>long</code> value at the 
+ * shared scale, anything else throws an <code>ArithmeticException</code> 
+ * and leaves the vector unchanged. The values returned by 
+ * {@link #get(int)} are equal to the added values, with any trailing 
+ * zeroes beyond two decimal places dropped. This class is not 
+ * thread-safe.</p>
+ * 
+ * @author Ryan Gilera
+ */
+public final class MoneyVector implements MoneyCollection {
+    
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final String OUT_OF_RANGE_MESSAGE = 
+            "Result exceeds the range of MoneyVector.";
+    
+    private final CurrencyRegistry.Entry currency;
+    private MoneyFactory moneyFactory;
+    
+    private long[] values;
+    private int size;
+    private int scale;
+    
+    // An upper bound of the magnitudes of the values, so most operations 
+    // can rule out overflow before running an unchecked loop. It is exact 
+    // after any recomputation and only loosened by overwriting values.
+    private long magnitudeBound;
+    
+    /**
+     * Creates an empty vector for the currency of the default 
+     * <code>Locale</code>.
+     */
+    public MoneyVector() {
+        this(CurrencyRegistry.getDefault(), DEFAULT_CAPACITY);
+    }
+    
+    /**
+     * Creates an empty vector for the currency of the default 
+     * <code>Locale</code> with an initial capacity.
+     * 
+     * @param initialCapacity <code>integer</code> value
+     */
+    public MoneyVector(int initialCapacity) {
+        this(CurrencyRegistry.getDefault(), initialCapacity);
+    }
+    
+    /**
+     * Creates an empty vector for the given currency with an initial 
+     * capacity.
+     * 
+     * @param currency <code>CurrencyRegistry.Entry</code> of the currency
+     * @param initialCapacity <code>integer</code> value
+     */
+    public MoneyVector(CurrencyRegistry.Entry currency, int initialCapacity) {
+        if (currency == null) {
+            throw new NullPointerException("Cannot accept null currency.");
+        }
+        
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " 
+                    + initialCapacity);
+        }
+        
+        this.currency = currency;
+        this.moneyFactory = new MoneyFactory(currency.getCurrencyCode());
+        this.values = new long[initialCapacity];
+    }
+    
+    /**
+     * Returns the currency of all values.
+     * 
+     * @return <code>CurrencyRegistry.Entry</code> object
+     */
+    public CurrencyRegistry.Entry getCurrency() {
+        return currency;
+    }
+    
+    /**
+     * Returns the number of decimal places shared by all values.
+     * 
+     * @return <code>integer</code> value
+     */
+    public int getScale() {
+        return scale;
+    }
+    
+    /**
+     * Returns the number of values.
+     * 
+     * @return <code>integer</code> value
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Checks if there are no values.
+     * 
+     * @return <code>boolean</code> value
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    /**
+     * Removes all values and resets the scale to zero.
+     */
+    public void clear() {
+        size = 0;
+        scale = 0;
+        magnitudeBound = 0;
+    }
+    
+    /**
+     * Appends a value.
+     * 
+     * @param money <code>Money</code> object
+     */
+    public void add(Money money) {
+        long unscaled = alignedUnscaledOf(money);
+        
+        if (size == values.length) {
+            values = Arrays.copyOf(values, 
+                    Math.max(DEFAULT_CAPACITY, size + (size >> 1)));
+        }
+        
+        values[size++] = unscaled;
+        magnitudeBound = Math.max(magnitudeBound, Math.abs(unscaled));
+    }
+    
+    /**
+     * Parses an amount with the <code>MoneyFactory</code> of this vector 
+     * and appends it.
+     * 
+     * @param amount <code>String</code> object
+     */
+    public void add(String amount) {
+        add(moneyFactory.valueOf(amount));
+    }
+    
+    /**
+     * Returns the value at a position.
+     * 
+     * @param index Position of the value
+     * @return <code>Money</code> object
+     */
+    public Money get(int index) {
+        checkIndex(index);
+        return toMoney(values[index], scale);
+    }
+    
+    /**
+     * Replaces the value at a position.
+     * 
+     * @param index Position of the value
+     * @param money <code>Money</code> object
+     * @return <code>Money</code> object previously at the position
+     */
+    public Money set(int index, Money money) {
+        checkIndex(index);
+        long unscaled = alignedUnscaledOf(money);
+        Money previous = toMoney(values[index], scale);
+        
+        values[index] = unscaled;
+        magnitudeBound = Math.max(magnitudeBound, Math.abs(unscaled));
+        return previous;
+    }
+    
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index 
+                    + ", Size: " + size);
+        }
+    }
+    
+    private void verifyInput(Money money) {
+        if (money == null) {
+            throw new NullPointerException("Cannot accept null input.");
+        }
+        
+        if (money.getCurrency() != currency) {
+            throw new CurrencyDidNotMatchException("Currency codes doesn't matched!");
+        }
+    }
+    
+    /**
+     * Returns the unscaled value of a <code>Money</code> object at the 
+     * shared scale, widening the shared scale first if needed.
+     */
+    private long alignedUnscaledOf(Money money) {
+        verifyInput(money);
+        
+        if (money.isInflated()) {
+            throw new ArithmeticException(OUT_OF_RANGE_MESSAGE);
+        }
+        
+        long unscaled = money.getUnscaledValue();
+        int moneyScale = money.getScale();
+        if (unscaled == 0) {
+            return 0;
+        }
+        
+        if (moneyScale > scale) {
+            rescale(moneyScale);
+        }
+        
+        return scaleUp(unscaled, scale - moneyScale);
+    }
+    
+    /**
+     * Widens the shared scale, multiplying every value by the same power 
+     * of ten.
+     */
+    private void rescale(int newScale) {
+        if (isWithinBound(0)) {
+            scale = newScale;
+            return;
+        }
+        
+        multiplyEach(scaleUp(1, newScale - scale));
+        scale = newScale;
+    }
+    
+    private static long scaleUp(long value, int exponent) {
+        if (value == 0) {
+            return 0;
+        }
+        
+        if (exponent > ArithmeticUtil.MAX_LONG_SCALE) {
+            throw new ArithmeticException(OUT_OF_RANGE_MESSAGE);
+        }
+        
+        long factor = ArithmeticUtil.powerOfTen(exponent);
+        if (Math.abs(value) > Long.MAX_VALUE / factor) {
+            throw new ArithmeticException(OUT_OF_RANGE_MESSAGE);
+        }
+        
+        return value * factor;
+    }
+    
+    /**
+     * Checks if no magnitude exceeds the limit, recomputing the bound of 
+     * the magnitudes when the current bound is too loose to tell.
+     */
+    private boolean isWithinBound(long limit) {
+        if (magnitudeBound <= limit) {
+            return true;
+        }
+        
+        long bound = 0;
+        for (int i = 0; i < size; i++) {
+            bound = Math.max(bound, Math.abs(values[i]));
+        }
+        
+        magnitudeBound = bound;
+        return bound <= limit;
+    }
+    
+    /**
+     * Creates a <code>Money</code> object from an unscaled value, dropping 
+     * trailing zeroes the same way as the results of operations.
+     */
+    private Money toMoney(long unscaled, int valueScale) {
+        while (valueScale > 0 && unscaled % 10 == 0) {
+            unscaled /= 10;
+            valueScale--;
+        }
+        
+        // Split into units, as tens of the single digit may exceed a long
+        if (valueScale == 1) {
+            SignValue sign = (unscaled < 0) ? SignValue.Negative : 
+                    SignValue.Positive;
+            long magnitude = Math.abs(unscaled);
+            return Money.ofUnits(sign, magnitude / 10, (magnitude % 10) * 10, 
+                    2, currency);
+        }
+        
+        return Money.ofUnscaled(unscaled, valueScale, currency);
+    }
+    
+    /**
+     * Returns the smallest value.
+     * 
+     * @return <code>Money</code> object
+     */
+    public Money min() {
+        if (isEmpty()) {
+            throw new ArithmeticException("Empty vector!");
+        }
+        
+        return toMoney(minUnscaled(), scale);
+    }
+    
+    /**
+     * Returns the largest value.
+     * 
+     * @return <code>Money</code> object
+     */
+    public Money max() {
+        if (isEmpty()) {
+            throw new ArithmeticException("Empty vector!");
+        }
+        
+        return toMoney(maxUnscaled(), scale);
+    }
+    
+    private long minUnscaled() {
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            min = Math.min(min, values[i]);
+        }
+        
+        return min;
+    }
+    
+    private long maxUnscaled() {
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, values[i]);
+        }
+        
+        return max;
+    }
+    
+    @Override
+    public boolean hasNegativeValue() {
+        return size > 0 && minUnscaled() < 0;
+    }
+
+    @Override
+    public boolean hasPositiveValue() {
+        return size > 0 && maxUnscaled() > 0;
+    }
+
+    @Override
+    public void setMoneyFactory(MoneyFactory moneyFactory) {
+        this.moneyFactory = moneyFactory;
+    }
+
+    @Override
+    public MoneyFactory getMoneyFactory() {
+        return moneyFactory;
+    }
+
+    @Override
+    public boolean isAllPositiveValues() {
+        return !hasNegativeValue();
+    }
+
+    @Override
+    public boolean isAllNegativeValues() {
+        return !hasPositiveValue();
+    }
+
+    /**
+     * Calculates the sum of all values stored. Values are added as 
+     * <code>long</code> values whenever their bound rules out an overflow.
+     * 
+     * @return <code>Money</code> as sum
+     */
+    @Override
+    public Money sum() {
+        return totalFrom(0);
+    }
+    
+    /**
+     * Sums the values from a position to the end.
+     */
+    private Money totalFrom(int start) {
+        int count = size - start;
+        if (count <= 0) {
+            return Money.valueOf(0, currency);
+        }
+        
+        if (isWithinBound(Long.MAX_VALUE / count)) {
+            long total = 0;
+            for (int i = start; i < size; i++) {
+                total += values[i];
+            }
+            
+            return MoneyOperation.toMoney(total, scale, currency);
+        }
+        
+        BigInteger total = BigInteger.ZERO;
+        long partial = 0;
+        for (int i = start; i < size; i++) {
+            long value = values[i];
+            long sum = partial + value;
+            // Overflow only when both have the same sign and the sum differs
+            if (((partial ^ sum) & (value ^ sum)) < 0) {
+                total = total.add(BigInteger.valueOf(partial));
+                sum = value;
+            }
+            
+            partial = sum;
+        }
+        
+        return MoneyOperation.toMoney(total.add(BigInteger.valueOf(partial)), 
+                scale, currency);
+    }
+
+    /**
+     * Calculates the difference of all values stored, the first value 
+     * minus all other values.
+     * 
+     * @return <code>Money</code> as difference
+     */
+    @Override
+    public Money difference() {
+        if (isEmpty()) {
+            throw new ArithmeticException("Empty vector!");
+        }
+        
+        return get(0).subtract(totalFrom(1));
+    }
+
+    /**
+     * Calculates the product of all values stored.
+     * 
+     * @return <code>Money</code> as product
+     */
+    @Override
+    public Money product() {
+        if (isEmpty()) {
+            throw new ArithmeticException("Empty vector!");
+        }
+        
+        Money productMoney = get(0);
+        for (int i = 1; i < size; i++) {
+            productMoney = productMoney.multiply(get(i));
+        }
+        
+        return productMoney;
+    }
+
+    /**
+     * Calculates the quotient of all values stored.
+     * 
+     * @return <code>Money</code> object as quotient
+     */
+    @Override
+    public Money quotient() {
+        if (isEmpty()) {
+            throw new ArithmeticException("Empty vector!");
+        }
+        
+        Money quotientMoney = get(0);
+        for (int i = 1; i < size; i++) {
+            quotientMoney = quotientMoney.divide(get(i));
+        }
+        
+        return quotientMoney;
+    }
+
+    /**
+     * Calculates the sum for each values stored with the given value.
+     * 
+     * @param money <code>Money</code> object
+     */
+    @Override
+    public void addEachWith(Money money) {
+        addEach(alignedUnscaledOf(money));
+    }
+
+    /**
+     * Calculates the difference for each values stored with the given value.
+     * 
+     * @param money <code>Money</code> object
+     */
+    @Override
+    public void subtractEachWith(Money money) {
+        // Unscaled values are never Long.MIN_VALUE
+        addEach(-alignedUnscaledOf(money));
+    }
+    
+    private void addEach(long operand) {
+        if (operand == 0) {
+            return;
+        }
+        
+        long magnitude = Math.abs(operand);
+        if (isWithinBound(Long.MAX_VALUE - magnitude)) {
+            for (int i = 0; i < size; i++) {
+                values[i] += operand;
+            }
+            
+            magnitudeBound += magnitude;
+            return;
+        }
+        
+        long[] result = new long[values.length];
+        long bound = 0;
+        for (int i = 0; i < size; i++) {
+            long sum = values[i] + operand;
+            if (((values[i] ^ sum) & (operand ^ sum)) < 0 
+                    || sum == Long.MIN_VALUE) {
+                throw new ArithmeticException(OUT_OF_RANGE_MESSAGE);
+            }
+            
+            result[i] = sum;
+            bound = Math.max(bound, Math.abs(sum));
+        }
+        
+        values = result;
+        magnitudeBound = bound;
+    }
+
+    /**
+     * Calculates the product for each values stored with the given value. 
+     * Trailing zeroes shared by all products are dropped from the scale.
+     * 
+     * @param money <code>Money</code> object
+     */
+    @Override
+    public void multiplyEachWith(Money money) {
+        verifyInput(money);
+        
+        if (money.isInflated()) {
+            throw new ArithmeticException(OUT_OF_RANGE_MESSAGE);
+        }
+        
+        int productScale = scale + money.getScale();
+        multiplyEach(money.getUnscaledValue());
+        scale = productScale;
+        dropSharedZeros();
+    }
+    
+    private void multiplyEach(long factor) {
+        long magnitude = Math.abs(factor);
+        if (magnitude == 0 || isWithinBound(Long.MAX_VALUE / magnitude)) {
+            for (int i = 0; i < size; i++) {
+                values[i] *= factor;
+            }
+            
+            magnitudeBound *= magnitude;
+            return;
+        }
+        
+        long[] result = new long[values.length];
+        long bound = 0;
+        for (int i = 0; i < size; i++) {
+            if (Math.abs(values[i]) > Long.MAX_VALUE / magnitude) {
+                throw new ArithmeticException(OUT_OF_RANGE_MESSAGE);
+            }
+            
+            result[i] = values[i] * factor;
+            bound = Math.max(bound, Math.abs(result[i]));
+        }
+        
+        values = result;
+        magnitudeBound = bound;
+    }
+    
+    /**
+     * Narrows the shared scale while all values end with a zero digit.
+     */
+    private void dropSharedZeros() {
+        int zeros = 0;
+        while (zeros < scale && endWithZeros(zeros + 1)) {
+            zeros++;
+        }
+        
+        if (zeros == 0) {
+            return;
+        }
+        
+        long divisor = ArithmeticUtil.powerOfTen(zeros);
+        for (int i = 0; i < size; i++) {
+            values[i] /= divisor;
+        }
+        
+        magnitudeBound /= divisor;
+        scale -= zeros;
+    }
+    
+    private boolean endWithZeros(int zeros) {
+        if (zeros > ArithmeticUtil.MAX_LONG_SCALE) {
+            // Any long value is less than 10^19
+            return isWithinBound(0);
+        }
+        
+        long divisor = ArithmeticUtil.powerOfTen(zeros);
+        for (int i = 0; i < size; i++) {
+            if (values[i] % divisor != 0) {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+
+    /**
+     * Calculates the quotient for each values stored with the given value, 
+     * rounded down like <code>Money.divide(Money)</code>. The quotients 
+     * keep the largest number of decimal places, up to 18, at which all of 
+     * them still fit into <code>long</code> values at a shared scale.
+     * 
+     * @param money <code>Money</code> object
+     */
+    @Override
+    public void divideEachWith(Money money) {
+        BigDecimal divisor = toDivisor(money);
+        
+        int quotientScale = Division.DEFAULT_SCALE;
+        while (!fitsQuotients(divisor, quotientScale)) {
+            if (quotientScale == 0) {
+                throw new ArithmeticException(OUT_OF_RANGE_MESSAGE);
+            }
+            
+            quotientScale--;
+        }
+        
+        divideEach(divisor, quotientScale, Division.DEFAULT_ROUNDING_MODE);
+    }
+    
+    /**
+     * Calculates the quotient for each values stored with the given value, 
+     * rounded to the given number of decimal places. The results are the 
+     * same as dividing each value on its own with <code>Money.divide</code>,
+     * but every quotient must fit into a <code>long</code> value at that 
+     * scale.
+     * 
+     * @param money <code>Money</code> object
+     * @param divisionScale Number of decimal places of the quotients
+     * @param roundingMode <code>RoundingMode</code> for the discarded digits
+     */
+    public void divideEachWith(Money money, int divisionScale, 
+            RoundingMode roundingMode) {
+        if (divisionScale < 0) {
+            throw new IllegalArgumentException("Negative scale.");
+        }
+        
+        if (roundingMode == null) {
+            throw new NullPointerException("Cannot accept null rounding mode.");
+        }
+        
+        divideEach(toDivisor(money), divisionScale, roundingMode);
+    }
+    
+    private BigDecimal toDivisor(Money money) {
+        verifyInput(money);
+        
+        if (money.isZero()) {
+            throw new ArithmeticException("Cannot divide by Zero.");
+        }
+        
+        BigInteger unscaled = money.isInflated() ? money.getBigUnscaledValue() 
+                : BigInteger.valueOf(money.getUnscaledValue());
+        return new BigDecimal(unscaled, money.getScale());
+    }
+    
+    /**
+     * Checks if the quotient of the largest magnitude, rounded away from 
+     * zero, fits into a <code>long</code> value at the given scale.
+     */
+    private boolean fitsQuotients(BigDecimal divisor, int quotientScale) {
+        // Tightens the bound to the largest magnitude
+        isWithinBound(0);
+        BigDecimal largest = new BigDecimal(BigInteger.valueOf(magnitudeBound), 
+                scale).divide(divisor.abs(), quotientScale, RoundingMode.UP);
+        
+        return largest.unscaledValue().bitLength() < Long.SIZE;
+    }
+    
+    /**
+     * Divides every unscaled value by the unscaled divisor scaled to the 
+     * quotient scale. Uses <code>BigDecimal</code> only when the divisor 
+     * has more decimal places than the quotients or does not fit into a 
+     * <code>long</code> value.
+     */
+    private void divideEach(BigDecimal divisor, int quotientScale, 
+            RoundingMode roundingMode) {
+        // A quotient at the quotient scale is value * 10^shift / divisor
+        int shift = divisor.scale() + quotientScale - scale;
+        long[] quotients = new long[values.length];
+        long bound = 0;
+        
+        if (shift < 0 || shift > ArithmeticUtil.MAX_LONG_SCALE 
+                || divisor.unscaledValue().bitLength() >= Long.SIZE) {
+            for (int i = 0; i < size; i++) {
+                BigDecimal quotient = new BigDecimal(
+                        BigInteger.valueOf(values[i]), scale)
+                        .divide(divisor, quotientScale, roundingMode);
+                if (quotient.unscaledValue().abs().bitLength() >= Long.SIZE) {
+                    throw new ArithmeticException(OUT_OF_RANGE_MESSAGE);
+                }
+                
+                quotients[i] = quotient.unscaledValue().longValue();
+                bound = Math.max(bound, Math.abs(quotients[i]));
+            }
+        } else {
+            long unscaledDivisor = divisor.unscaledValue().longValue();
+            long divisorMagnitude = Math.abs(unscaledDivisor);
+            long multiplier = ArithmeticUtil.powerOfTen(shift);
+            
+            // The most digits a remainder can be scaled by without overflow
+            int digitsPerStep = 0;
+            while (digitsPerStep < ArithmeticUtil.MAX_LONG_SCALE 
+                    && divisorMagnitude <= Long.MAX_VALUE 
+                    / ArithmeticUtil.powerOfTen(digitsPerStep + 1)) {
+                digitsPerStep++;
+            }
+            Int128 dividend = new Int128();
+            
+            for (int i = 0; i < size; i++) {
+                long magnitude = Math.abs(values[i]);
+                long quotient, remainder;
+                if (digitsPerStep > 0) {
+                    // Long division by the divisor, a few digits at a time
+                    quotient = magnitude / divisorMagnitude;
+                    remainder = magnitude % divisorMagnitude;
+                    for (int digits = shift; digits > 0; 
+                            digits -= digitsPerStep) {
+                        long power = ArithmeticUtil.powerOfTen(
+                                Math.min(digits, digitsPerStep));
+                        long scaled = remainder * power;
+                        long digitsQuotient = scaled / divisorMagnitude;
+                        if (quotient > (Long.MAX_VALUE - digitsQuotient) 
+                                / power) {
+                            throw new ArithmeticException(OUT_OF_RANGE_MESSAGE);
+                        }
+                        
+                        quotient = quotient * power + digitsQuotient;
+                        remainder = scaled % divisorMagnitude;
+                    }
+                } else {
+                    dividend.setProduct(magnitude, multiplier);
+                    remainder = dividend.divideAndRemainder(divisorMagnitude);
+                    if (!dividend.fitsInLong()) {
+                        throw new ArithmeticException(OUT_OF_RANGE_MESSAGE);
+                    }
+                    quotient = dividend.longValue();
+                }
+                
+                SignValue sign = ((values[i] ^ unscaledDivisor) < 0) ? 
+                        SignValue.Negative : SignValue.Positive;
+                if (MoneyOperation.isRoundedAway(quotient, remainder, 
+                        divisorMagnitude, sign, roundingMode)) {
+                    quotient = Math.addExact(quotient, 1);
+                }
+                
+                quotients[i] = (sign == SignValue.Negative) ? 
+                        -quotient : quotient;
+                bound = Math.max(bound, quotient);
+            }
+        }
+        
+        values = quotients;
+        scale = quotientScale;
+        magnitudeBound = bound;
+        dropSharedZeros();
+    }
+}
@@ -23,8 +23,7 @@
  */
 package com.github.daytron.daytronmoney.currency;
 
-import com.github.daytron.daytronmoney.utility.ConversionTypeUtil;
-import com.github.daytron.daytronmoney.utility.StringUtil;
+import com.github.daytron.daytronmoney.utility.Int128;
 import java.math.BigInteger;
 
 /**
@@ -46,101 +45,60 @@ class Multiplication extends MoneyOperation {
     }
     
     /**
-     * Implements execute method from it's super class. Multiplication operation of 
+     * Implements getOperation method from it's super class.
+     * 
+     * @return <code>MoneyMetrics.Operation</code> value
+     */
+    @Override
+    protected MoneyMetrics.Operation getOperation() {
+        return MoneyMetrics.Operation.MULTIPLICATION;
+    }
+    
+    /**
+     * Implements calculate method from it's super class. Multiplication operation of 
      * two <code>Money</code> objects.
      * 
+     * <p>The unscaled values are multiplied as <code>long</code> values into
+     * a 128-bit product, whose scale is the sum of both scales. Falls back to 
+     * <code>BigInteger</code> only when an operand does not fit into a 
+     * <code>long</code> value.
+     * 
      * @return A <code>Money</code> object representing the product. 
      */
     @Override
-    public Money execute() {
+    protected Money calculate() {
         if (getThatMoney() == null) {
             throw new NullPointerException("Cannot multiply by Null value.");
         }
         
         if (getThisMoney().isZero() || getThatMoney().isZero()) {
-            return new Money.Builder()
-                    .currencyCode(getThisMoney().getCurrencyCode())
-                    .sign(SignValue.Positive)
-                    .build();
+            return Money.valueOf(0, getThisMoney().getCurrency());
         }
         
-        long newWholeUnit, newDecimalUnit, newLeadingZeroes;
-        SignValue newSign;
+        final int thisScale = scaleOf(getThisMoney());
+        final int thatScale = scaleOf(getThatMoney());
+        final int productScale = Math.addExact(thisScale, thatScale);
         
-        SignValue thisSign = getThisMoney().getSign();
-        SignValue thatSign = getThatMoney().getSign();
-        
-        
-        final BigInteger[] resultArray = ConversionTypeUtil
-                    .concatWholeAndDecThenConvertBigInteger(getThisMoney(), getThatMoney());
-        // For multiplication the cutoff decimal is total length of all values' decimal
-        // places.
-        // Note: resultArray[0] length is normalize for each value thus have the same
-        // length, hence cutOffDecimal multiply by 2
-        final BigInteger cutOffDecimalPlace = resultArray[0].multiply(new BigInteger("2"));
-        final BigInteger concatThisBigInt = resultArray[1];
-        final BigInteger concatThatBigInt = resultArray[2];
-        
-        // Determine sign first
-        if (thisSign == SignValue.Negative && thatSign == SignValue.Positive) {
-            newSign = SignValue.Negative;
-        } else if (thatSign == SignValue.Negative && thisSign == SignValue.Positive) {
-            newSign = SignValue.Negative;
-        } else if (thisSign == SignValue.Negative && thatSign == SignValue.Negative){
-            newSign = SignValue.Positive;
-        } else {
-            // Either sign of the two values, since they are equal
-            newSign = thisSign;
+        long thisUnscaled, thatUnscaled;
+        try {
+            thisUnscaled = unscaledOf(getThisMoney(), thisScale);
+            thatUnscaled = unscaledOf(getThatMoney(), thatScale);
+        } catch (ArithmeticException overflow) {
+            reportBigIntegerFallback();
+            BigInteger product = bigUnscaledOf(getThisMoney(), thisScale)
+                    .multiply(bigUnscaledOf(getThatMoney(), thatScale));
+            return toStrippedMoney(product, productScale);
         }
         
-        BigInteger productBigInt = concatThisBigInt.multiply(concatThatBigInt);
-        
-        String productValueStr = productBigInt.toString();
+        long productHigh = Int128.multiplyHigh(thisUnscaled, thatUnscaled);
+        long productLow = thisUnscaled * thatUnscaled;
         
-        String newWholeStr ="", newDecimalStr="";
-        // if the cutoff decimal is within the range of product
-        // it means whole unit is > 0 and can be extracted
-        if ((productValueStr.length()-1) >= cutOffDecimalPlace.intValue()) {
-            long lastIndexOfWhole = ((productValueStr.length()-1) - 
-                cutOffDecimalPlace.intValue());
-            
-            for (int i = 0; i < productValueStr.length(); i++) {
-                char character = productValueStr.charAt(i);
-
-                if (i <= lastIndexOfWhole) {
-                    newWholeStr += Character.toString(character);
-                } else {
-                    newDecimalStr += Character.toString(character);
-                }
-            }
-        // Otherwise whole unit is zero and must calculate the leading zero
-        // if there are any leading zeros.
-        } else {
-            int leadingZeroesToAdd = cutOffDecimalPlace.intValue() - 
-                    productValueStr.length();
-            
-            for (int j = 1; j <= leadingZeroesToAdd; j++) {
-                newDecimalStr += "0";
-            }
-            
-            newDecimalStr += productValueStr;
+        // Most products fit into a single long value
+        if (productHigh == (productLow >> 63)) {
+            return toStrippedMoney(productLow, productScale);
         }
         
-        newLeadingZeroes = StringUtil.countLeadingZeros(newDecimalStr);
-        newDecimalStr = StringUtil.removeAnyLeadingAndTrailingZeroes(newDecimalStr);
-        
-        // Get the long value
-        // If string is empty means zero
-        newWholeUnit = ((newWholeStr.isEmpty())?0:Long.valueOf(newWholeStr));
-        newDecimalUnit = ((newDecimalStr.isEmpty())?0:Long.valueOf(newDecimalStr));
-        
-        return new Money.Builder()
-                .currencyCode(getThisMoney().getCurrencyCode())
-                .sign(newSign)
-                .wholeUnit(newWholeUnit)
-                .decimalUnit(newDecimalUnit)
-                .leadingDecimalZeroes(newLeadingZeroes)
-                .build();
+        return toStrippedMoney(new Int128(productHigh, productLow), productScale);
     }
     
 }
@@ -0,0 +1,74 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.currency;
+
+import com.github.daytron.daytronmoney.utility.FlightRecorderUtil;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for an amount that 
+ * <code>MoneyFactory</code> cannot parse.
+ * 
+ * @author Ryan Gilera
+ */
+@Name("com.github.daytron.daytronmoney.ParseFailure")
+@Label("Money Parse Failure")
+@Category(FlightRecorderUtil.CATEGORY)
+@Description("An amount that cannot be parsed into a Money object")
+final class ParseFailureEvent extends Event {
+    
+    /**
+     * The longest input recorded, longer inputs are cut.
+     */
+    static final int MAX_INPUT_LENGTH = 64;
+    
+    @Label("Input")
+    private String input;
+    
+    @Label("Message")
+    private String message;
+    
+    /**
+     * Records the failure if the event is enabled.
+     * 
+     * @param value The parsed characters
+     * @param start Index of the first character
+     * @param end Index after the last character
+     * @param failure The exception thrown by the parser
+     */
+    static void record(CharSequence value, int start, int end, 
+            RuntimeException failure) {
+        ParseFailureEvent event = new ParseFailureEvent();
+        if (event.isEnabled()) {
+            event.input = value.subSequence(start, 
+                    Math.min(end, start + MAX_INPUT_LENGTH)).toString();
+            event.message = failure.getMessage();
+            event.commit();
+        }
+    }
+}
@@ -24,6 +24,11 @@
 package com.github.daytron.daytronmoney.currency;
 
 import com.github.daytron.daytronmoney.exception.BaseNotAWholeNumber;
+import com.github.daytron.daytronmoney.utility.ArithmeticUtil;
+import com.github.daytron.daytronmoney.utility.Int128;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
 
 /**
  * A <code>MoneyOperation</code> subclass implementing power operation
@@ -33,32 +38,84 @@ import com.github.daytron.daytronmoney.exception.BaseNotAWholeNumber;
  */
 class Power extends MoneyOperation {
     
+    /**
+     * Marks a power operation without a bound on the intermediate scale, 
+     * which only accepts whole number bases.
+     */
+    private static final int UNBOUNDED_SCALE = -1;
+    
+    private static final BigDecimal MONEY_RANGE_LIMIT = 
+            new BigDecimal(BigInteger.ONE.shiftLeft(Long.SIZE - 1));
+    
+    private final int scale;
+    private final RoundingMode roundingMode;
+    
     protected Power(Money thisMoney, Money thatMoney) {
         super(thisMoney, thatMoney);
+        
+        this.scale = UNBOUNDED_SCALE;
+        this.roundingMode = Division.DEFAULT_ROUNDING_MODE;
+    }
+    
+    /**
+     * Constructor for a power operation where every intermediate product is
+     * rounded to the given number of decimal places. The base may have 
+     * decimal places.
+     * 
+     * @param thisMoney A <code>Money</code> object as the base
+     * @param thatMoney A <code>Money</code> object as the exponent
+     * @param scale Maximum number of decimal places of intermediate products
+     * @param roundingMode <code>RoundingMode</code> for the discarded digits
+     */
+    protected Power(Money thisMoney, Money thatMoney, int scale, 
+            RoundingMode roundingMode) {
+        super(thisMoney, thatMoney);
+        
+        if (scale < 0) {
+            throw new IllegalArgumentException("Negative scale.");
+        }
+        
+        if (roundingMode == null) {
+            throw new NullPointerException("Cannot accept null rounding mode.");
+        }
+        
+        this.scale = scale;
+        this.roundingMode = roundingMode;
     }
     
     /**
-     * Implements execute method from it's super class. Performing the power operation of 
+     * Implements getOperation method from it's super class.
+     * 
+     * @return <code>MoneyMetrics.Operation</code> value
+     */
+    @Override
+    protected MoneyMetrics.Operation getOperation() {
+        return MoneyMetrics.Operation.POWER;
+    }
+    
+    /**
+     * Implements calculate method from it's super class. Performing the power operation of 
      * two <code>Money</code> objects using the second as the exponent.
      * 
+     * <p>Uses exponentiation by squaring, so only a logarithmic number of 
+     * multiplications is needed. Results that are certain to exceed the 
+     * range of <code>Money</code> are rejected before any multiplication.
+     * 
      * @return A <code>Money</code> object representing the product. 
      */
     @Override
-    public Money execute() {
+    protected Money calculate() {
         Money thatMoney = getThatMoney();
         Money thisMoney = getThisMoney();
 
         //Check base is a whole number
-        if (!thisMoney.isWholeNumber()) {
+        if (!isBounded() && !thisMoney.isWholeNumber()) {
             throw new BaseNotAWholeNumber("Power operation can only be applied to whole numbers.");
         }
         
         //Ensure any number to the power of zero is 1
         if(thatMoney.isZero()) {
-            return new Money.Builder()
-                    .sign(SignValue.Positive)
-                    .wholeUnit(1)
-                    .build();
+            return createOne();
         }
         
         //Calculation not possible
@@ -66,27 +123,270 @@ class Power extends MoneyOperation {
             throw new ArithmeticException("Zero to a negative exponent is an undefined operation");
         }
         
-        long newWholeUnit = thatMoney.getWholeUnit();
-        Money result = new Money.Builder()
-                .sign(thisMoney.getSign())
-                .wholeUnit(thisMoney.getWholeUnit())
-                .leadingDecimalZeroes(thisMoney.getLeadingDecimalZeros())
-                .build();
+        long exponent = thatMoney.getWholeUnit();
+        boolean reciprocal = thatMoney.getSign() == SignValue.Negative;
+        
+        //A base of at least 2^k gives at least 2^(k * exponent), only the
+        //reciprocal of such a power can still be in range
+        long wholeUnit = thisMoney.getWholeUnit();
+        if (wholeUnit > 1 && !reciprocal) {
+            int bits = (Long.SIZE - 1) - Long.numberOfLeadingZeros(wholeUnit);
+            if (exponent >= Long.SIZE - 1 || bits * exponent >= Long.SIZE - 1) {
+                throw new ArithmeticException(OUT_OF_RANGE_MESSAGE);
+            }
+        }
+        
+        if (isBounded()) {
+            return boundedPower(exponent, reciprocal);
+        }
         
-        //Multiply by the exponent
-        for(int i = 1; i < newWholeUnit; i++) {
-            result = result.multiply(thisMoney);
+        Money result;
+        try {
+            result = wholePower(exponent);
+        } catch (ArithmeticException outOfRange) {
+            if (!reciprocal) {
+                throw outOfRange;
+            }
+            
+            //Beyond the range of long, so the reciprocal is below 10^-18
+            return roundTinyReciprocal(exponent, Division.DEFAULT_SCALE);
         }
 
         //if the exponent was a negative number take the reciprocal
-        if( thatMoney.getSign() == SignValue.Negative) {
-            result = new Money.Builder()
-                    .sign(SignValue.Positive)
-                    .wholeUnit(1)
-                    .build()
-                    .divide(result);
+        if (reciprocal) {
+            result = new Division(createOne(), result).calculate();
         }
 
         return result;
     }
+    
+    /**
+     * Rounds the reciprocal of a power too large for the reciprocal to reach 
+     * half of the last decimal place, so only its sign matters to the 
+     * rounding mode.
+     * 
+     * @param exponent Positive exponent
+     * @param resultScale Number of decimal places of the result
+     * @return A <code>Money</code> object representing the reciprocal. 
+     */
+    private Money roundTinyReciprocal(long exponent, int resultScale) {
+        BigInteger tiny = (getThisMoney().getSign() == SignValue.Negative 
+                && (exponent & 1) == 1) ? BigInteger.ONE.negate() : 
+                BigInteger.ONE;
+        BigDecimal rounded = new BigDecimal(tiny, resultScale + 2)
+                .setScale(resultScale, roundingMode);
+        
+        return toStrippedMoney(rounded.unscaledValue(), rounded.scale());
+    }
+    
+    private boolean isBounded() {
+        return scale != UNBOUNDED_SCALE;
+    }
+    
+    private Money createOne() {
+        return Money.valueOf(1, getThisMoney().getCurrency());
+    }
+    
+    /**
+     * Raises a whole number base to a positive exponent with exact 
+     * <code>long</code> arithmetic.
+     * 
+     * @param exponent Positive exponent
+     * @return A <code>Money</code> object representing the product. 
+     */
+    private Money wholePower(long exponent) {
+        long base = unscaledOf(getThisMoney(), 0);
+        long result = 1;
+        
+        try {
+            while (true) {
+                if ((exponent & 1) == 1) {
+                    result = Math.multiplyExact(result, base);
+                }
+                
+                exponent >>>= 1;
+                if (exponent == 0) {
+                    break;
+                }
+                
+                base = Math.multiplyExact(base, base);
+            }
+        } catch (ArithmeticException overflow) {
+            throw new ArithmeticException(OUT_OF_RANGE_MESSAGE);
+        }
+        
+        return toMoney(result, 0);
+    }
+    
+    /**
+     * Raises the base to a positive exponent, rounding every intermediate
+     * product to the scale of this operation. Works on unscaled 
+     * <code>long</code> values and falls back to <code>BigDecimal</code> 
+     * when they overflow.
+     * 
+     * @param exponent Positive exponent
+     * @param reciprocal Whether to return the reciprocal of the power
+     * @return A <code>Money</code> object representing the product or its 
+     * reciprocal. 
+     */
+    private Money boundedPower(long exponent, boolean reciprocal) {
+        if (scale > ArithmeticUtil.MAX_LONG_SCALE) {
+            return boundedPowerWithBigDecimal(exponent, reciprocal);
+        }
+        
+        Money result;
+        
+        try {
+            int baseScale = scaleOf(getThisMoney());
+            long base = unscaledOf(getThisMoney(), baseScale);
+            
+            long product = 1;
+            int resultScale = 0;
+            long remainingExponent = exponent;
+            while (true) {
+                if ((remainingExponent & 1) == 1) {
+                    int productScale = resultScale + baseScale;
+                    resultScale = Math.min(productScale, scale);
+                    product = roundProduct(product, base, 
+                            productScale - resultScale);
+                }
+                
+                remainingExponent >>>= 1;
+                if (remainingExponent == 0) {
+                    break;
+                }
+                
+                int productScale = baseScale + baseScale;
+                baseScale = Math.min(productScale, scale);
+                base = roundProduct(base, base, productScale - baseScale);
+            }
+            
+            result = toStrippedMoney(product, resultScale);
+        } catch (ArithmeticException overflow) {
+            return boundedPowerWithBigDecimal(exponent, reciprocal);
+        }
+        
+        return reciprocal ? reciprocalOf(result) : result;
+    }
+    
+    private Money reciprocalOf(Money power) {
+        return new Division(createOne(), power, scale, roundingMode)
+                .calculate();
+    }
+    
+    /**
+     * Multiplies two unscaled values and drops the given number of trailing 
+     * digits with the rounding mode of this operation. Throws an 
+     * <code>ArithmeticException</code> if the result does not fit into a
+     * <code>long</code> value.
+     * 
+     * @param x Signed unscaled value
+     * @param y Signed unscaled value
+     * @param droppedDigits Number of trailing digits to drop, throws for more
+     * than 18 digits
+     * @return Signed unscaled value of the rounded product
+     */
+    private long roundProduct(long x, long y, int droppedDigits) {
+        long productHigh = Int128.multiplyHigh(x, y);
+        long productLow = x * y;
+        boolean fitsInLong = productHigh == (productLow >> (Long.SIZE - 1));
+        
+        if (droppedDigits == 0) {
+            if (!fitsInLong) {
+                throw new ArithmeticException(OUT_OF_RANGE_MESSAGE);
+            }
+            return productLow;
+        }
+        
+        SignValue sign = (productHigh < 0) ? SignValue.Negative : 
+                SignValue.Positive;
+        long divisor = ArithmeticUtil.powerOfTen(droppedDigits);
+        long quotient, remainder;
+        if (fitsInLong && productLow != Long.MIN_VALUE) {
+            long magnitude = Math.abs(productLow);
+            quotient = magnitude / divisor;
+            remainder = magnitude % divisor;
+        } else {
+            Int128 magnitude = new Int128(productHigh, productLow);
+            if (sign == SignValue.Negative) {
+                magnitude.negate();
+            }
+            
+            remainder = magnitude.divideAndRemainder(divisor);
+            if (!magnitude.fitsInLong()) {
+                throw new ArithmeticException(OUT_OF_RANGE_MESSAGE);
+            }
+            quotient = magnitude.longValue();
+        }
+        
+        if (isRoundedAway(quotient, remainder, divisor, sign, roundingMode)) {
+            quotient = Math.addExact(quotient, 1);
+        }
+        
+        return (sign == SignValue.Negative) ? -quotient : quotient;
+    }
+    
+    /**
+     * Bounded power operation with <code>BigDecimal</code> for values beyond
+     * the range of <code>long</code> arithmetic. A reciprocal is taken of 
+     * the <code>BigDecimal</code> power, so powers beyond the range of 
+     * <code>Money</code> still give their small reciprocals.
+     * 
+     * @param exponent Positive exponent
+     * @param reciprocal Whether to return the reciprocal of the power
+     * @return A <code>Money</code> object representing the product or its 
+     * reciprocal. 
+     */
+    private Money boundedPowerWithBigDecimal(long exponent, 
+            boolean reciprocal) {
+        reportBigIntegerFallback();
+        
+        int baseScale = scaleOf(getThisMoney());
+        BigDecimal base = new BigDecimal(
+                bigUnscaledOf(getThisMoney(), baseScale), baseScale);
+        
+        BigDecimal reciprocalLimit = BigDecimal.TEN.pow(scale + 1);
+        BigDecimal result = BigDecimal.ONE;
+        long remainingExponent = exponent;
+        while (true) {
+            if ((remainingExponent & 1) == 1) {
+                result = roundToScale(result.multiply(base));
+            }
+            
+            remainingExponent >>>= 1;
+            if (remainingExponent == 0) {
+                break;
+            }
+            
+            // Squares only grow from here on when at least one, and there is
+            // still a multiplication left, so the result will be at least as
+            // large as this square
+            base = roundToScale(base.multiply(base));
+            if (!reciprocal && base.abs().compareTo(MONEY_RANGE_LIMIT) >= 0) {
+                throw new ArithmeticException(OUT_OF_RANGE_MESSAGE);
+            }
+            
+            if (reciprocal && base.abs().compareTo(reciprocalLimit) > 0) {
+                return roundTinyReciprocal(exponent, scale);
+            }
+        }
+        
+        if (!reciprocal) {
+            return toStrippedMoney(result.unscaledValue(), result.scale());
+        }
+        
+        if (result.abs().compareTo(MONEY_RANGE_LIMIT) < 0) {
+            return reciprocalOf(toStrippedMoney(result.unscaledValue(), 
+                    result.scale()));
+        }
+        
+        BigDecimal quotient = BigDecimal.ONE.divide(result, scale, 
+                roundingMode);
+        return toStrippedMoney(quotient.unscaledValue(), quotient.scale());
+    }
+    
+    private BigDecimal roundToScale(BigDecimal value) {
+        return (value.scale() > scale) ? 
+                value.setScale(scale, roundingMode) : value;
+    }
 }
@@ -42,13 +42,23 @@ class Subtraction extends MoneyOperation{
     }
 
     /**
-     * Implements execute method from it's super class. Subtraction operation of 
+     * Implements getOperation method from it's super class.
+     * 
+     * @return <code>MoneyMetrics.Operation</code> value
+     */
+    @Override
+    protected MoneyMetrics.Operation getOperation() {
+        return MoneyMetrics.Operation.SUBTRACTION;
+    }
+    
+    /**
+     * Implements calculate method from it's super class. Subtraction operation of 
      * two <code>Money</code> objects.
      * 
      * @return A <code>Money</code> object representing the difference. 
      */
     @Override
-    public Money execute() {
+    protected Money calculate() {
         if (getThatMoney() == null) {
             throw new NullPointerException("Cannot subtract Null value.");
         }
@@ -57,10 +67,10 @@ class Subtraction extends MoneyOperation{
             return getThisMoney();
         }
         
-        MoneyOperation subtracttionOperation = new Addition(getThisMoney(), 
-                getThatMoney().negate());
+        MoneyOperation subtractionOperation = new Addition(getThisMoney(), 
+                getThatMoney(), true);
         
-        return subtracttionOperation.execute();
+        return subtractionOperation.calculate();
         
     }
     
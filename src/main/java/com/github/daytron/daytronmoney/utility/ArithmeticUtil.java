@@ -0,0 +1,115 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.utility;
+
+/**
+ * Utility class for primitive decimal arithmetic. Values are handled as 
+ * unscaled <code>long</code> numbers together with a scale, the number of 
+ * decimal places.
+ * 
+ * @author Ryan Gilera
+ */
+public class ArithmeticUtil {
+    
+    /**
+     * The largest scale where a power of ten still fits into a 
+     * <code>long</code> value.
+     */
+    public static final int MAX_LONG_SCALE = 18;
+    
+    private static final long[] POWERS_OF_TEN = {
+        1L,
+        10L,
+        100L,
+        1_000L,
+        10_000L,
+        100_000L,
+        1_000_000L,
+        10_000_000L,
+        100_000_000L,
+        1_000_000_000L,
+        10_000_000_000L,
+        100_000_000_000L,
+        1_000_000_000_000L,
+        10_000_000_000_000L,
+        100_000_000_000_000L,
+        1_000_000_000_000_000L,
+        10_000_000_000_000_000L,
+        100_000_000_000_000_000L,
+        1_000_000_000_000_000_000L
+    };
+    
+    private ArithmeticUtil() {
+    }
+    
+    /**
+     * Returns ten raised to the given exponent. Throws an 
+     * <code>ArithmeticException</code> if the result does not fit into a 
+     * <code>long</code> value.
+     * 
+     * @param exponent <code>integer</code> value from 0 up to 
+     * <code>MAX_LONG_SCALE</code>
+     * @return <code>long</code> value
+     */
+    public static long powerOfTen(int exponent) {
+        if (exponent < 0 || exponent > MAX_LONG_SCALE) {
+            throw new ArithmeticException("Power of ten out of long range.");
+        }
+        
+        return POWERS_OF_TEN[exponent];
+    }
+    
+    /**
+     * Counts the number of digits of a non-negative <code>long</code> value.
+     * Zero is counted as a single digit.
+     * 
+     * @param value A non-negative <code>long</code> value
+     * @return <code>integer</code> value
+     */
+    public static int digitCount(long value) {
+        for (int i = 1; i <= MAX_LONG_SCALE; i++) {
+            if (value < POWERS_OF_TEN[i]) {
+                return i;
+            }
+        }
+        
+        return MAX_LONG_SCALE + 1;
+    }
+    
+    /**
+     * Multiplies a value by ten raised to the given exponent. Throws an 
+     * <code>ArithmeticException</code> if the result overflows.
+     * 
+     * @param value <code>long</code> value to scale up
+     * @param exponent <code>integer</code> value of the power of ten
+     * @return <code>long</code> value
+     */
+    public static long scaleUp(long value, int exponent) {
+        if (value == 0) {
+            return 0;
+        }
+        
+        return Math.multiplyExact(value, powerOfTen(exponent));
+    }
+}
@@ -0,0 +1,68 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.utility;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Utility class for the Java Flight Recorder events of the library. The 
+ * events extend <code>jdk.jfr.Event</code>, which older Java 8 runtimes do 
+ * not have, so an event class is only touched after checking 
+ * {@link #isRecorderActive()}. Until a recording is started, the hot paths 
+ * do not even create their events.
+ * 
+ * @author Ryan Gilera
+ */
+public class FlightRecorderUtil {
+    
+    /**
+     * The category of all events of the library.
+     */
+    public static final String CATEGORY = "DaytronMoney";
+    
+    private static final boolean AVAILABLE = isEventClassPresent();
+
+    private FlightRecorderUtil() {
+    }
+    
+    private static boolean isEventClassPresent() {
+        try {
+            Class.forName("jdk.jfr.Event", false, 
+                    FlightRecorderUtil.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+    
+    /**
+     * Checks if the runtime supports Java Flight Recorder events and a 
+     * recording has been started in this JVM.
+     * 
+     * @return <code>boolean</code> value
+     */
+    public static boolean isRecorderActive() {
+        return AVAILABLE && FlightRecorder.isInitialized();
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.utility;
+
+import java.math.BigInteger;
+
+/**
+ * A mutable signed 128-bit integer stored as a pair of <code>long</code> 
+ * values in two's complement form. Used as a wide register for exact 
+ * primitive arithmetic when an intermediate result overflows a 
+ * <code>long</code> value.
+ * 
+ * @author Ryan Gilera
+ */
+public final class Int128 {
+    
+    private static final long LOWER_HALF_MASK = 0xFFFFFFFFL;
+    private static final long HALF_BASE = 1L << 32;
+    
+    private long high;
+    private long low;
+
+    /**
+     * Creates an <code>Int128</code> object with a value of zero.
+     */
+    public Int128() {
+        this(0, 0);
+    }
+    
+    /**
+     * Creates an <code>Int128</code> object from its high and low bits.
+     * 
+     * @param high Upper 64 bits
+     * @param low Lower 64 bits
+     */
+    public Int128(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Returns the upper 64 bits.
+     * 
+     * @return <code>long</code> value
+     */
+    public long getHigh() {
+        return high;
+    }
+
+    /**
+     * Returns the lower 64 bits.
+     * 
+     * @return <code>long</code> value
+     */
+    public long getLow() {
+        return low;
+    }
+    
+    /**
+     * Sets the value from a <code>long</code> value.
+     * 
+     * @param value <code>long</code> value
+     * @return this <code>Int128</code> object
+     */
+    public Int128 set(long value) {
+        this.high = value >> 63;
+        this.low = value;
+        return this;
+    }
+    
+    /**
+     * Sets the value to the exact product of two <code>long</code> values.
+     * 
+     * @param x <code>long</code> value
+     * @param y <code>long</code> value
+     * @return this <code>Int128</code> object
+     */
+    public Int128 setProduct(long x, long y) {
+        this.high = multiplyHigh(x, y);
+        this.low = x * y;
+        return this;
+    }
+    
+    /**
+     * Adds a <code>long</code> value. Overflow beyond 128 bits is not 
+     * detected.
+     * 
+     * @param value <code>long</code> value
+     * @return this <code>Int128</code> object
+     */
+    public Int128 add(long value) {
+        return add(value >> 63, value);
+    }
+    
+    /**
+     * Adds another <code>Int128</code> value. Overflow beyond 128 bits is 
+     * not detected.
+     * 
+     * @param value <code>Int128</code> object
+     * @return this <code>Int128</code> object
+     */
+    public Int128 add(Int128 value) {
+        return add(value.high, value.low);
+    }
+    
+    /**
+     * Adds the exact product of two <code>long</code> values. Overflow 
+     * beyond 128 bits is not detected.
+     * 
+     * @param x <code>long</code> value
+     * @param y <code>long</code> value
+     * @return this <code>Int128</code> object
+     */
+    public Int128 addProduct(long x, long y) {
+        return add(multiplyHigh(x, y), x * y);
+    }
+    
+    private Int128 add(long otherHigh, long otherLow) {
+        long sumLow = low + otherLow;
+        long carry = (Long.compareUnsigned(sumLow, low) < 0) ? 1 : 0;
+        this.high = high + otherHigh + carry;
+        this.low = sumLow;
+        return this;
+    }
+    
+    /**
+     * Negates the value.
+     * 
+     * @return this <code>Int128</code> object
+     */
+    public Int128 negate() {
+        this.low = -low;
+        this.high = ~high + ((low == 0) ? 1 : 0);
+        return this;
+    }
+    
+    /**
+     * Returns the sign of the value as -1, 0 or 1.
+     * 
+     * @return <code>integer</code> value
+     */
+    public int signum() {
+        if (high < 0) {
+            return -1;
+        }
+        
+        return (high == 0 && low == 0) ? 0 : 1;
+    }
+    
+    /**
+     * Checks if the value fits into a signed <code>long</code> value.
+     * 
+     * @return <code>boolean</code> value
+     */
+    public boolean fitsInLong() {
+        return high == (low >> 63);
+    }
+    
+    /**
+     * Returns the lower 64 bits as a <code>long</code> value. Only meaningful
+     * when <code>fitsInLong()</code> is <code>true</code>.
+     * 
+     * @return <code>long</code> value
+     */
+    public long longValue() {
+        return low;
+    }
+    
+    /**
+     * Divides this non-negative value by an unsigned divisor. This object 
+     * becomes the quotient.
+     * 
+     * @param divisor Non-zero divisor, read as an unsigned value
+     * @return Remainder of the division, as an unsigned <code>long</code> 
+     * value
+     */
+    public long divideAndRemainder(long divisor) {
+        long quotientHigh = Long.divideUnsigned(high, divisor);
+        long remainder = Long.remainderUnsigned(high, divisor);
+        
+        this.high = quotientHigh;
+        return divideLow(remainder, divisor);
+    }
+    
+    /**
+     * Returns the remainder of this non-negative value divided by an 
+     * unsigned divisor, without changing this value.
+     * 
+     * @param divisor Non-zero divisor, read as an unsigned value
+     * @return Remainder of the division, as an unsigned <code>long</code> 
+     * value
+     */
+    public long remainder(long divisor) {
+        long savedLow = low;
+        long remainder = divideLow(Long.remainderUnsigned(high, divisor), 
+                divisor);
+        this.low = savedLow;
+        
+        return remainder;
+    }
+    
+    /**
+     * Converts this value to a <code>BigInteger</code> object.
+     * 
+     * @return <code>BigInteger</code> object
+     */
+    public BigInteger toBigInteger() {
+        return BigInteger.valueOf(high).shiftLeft(64)
+                .add(new BigInteger(Long.toUnsignedString(low)));
+    }
+    
+    /**
+     * Returns the upper 64 bits of the signed 128-bit product of two 
+     * <code>long</code> values.
+     * 
+     * @param x <code>long</code> value
+     * @param y <code>long</code> value
+     * @return <code>long</code> value
+     */
+    public static long multiplyHigh(long x, long y) {
+        long x1 = x >> 32;
+        long x2 = x & LOWER_HALF_MASK;
+        long y1 = y >> 32;
+        long y2 = y & LOWER_HALF_MASK;
+        
+        long z2 = x2 * y2;
+        long t = x1 * y2 + (z2 >>> 32);
+        long z1 = t & LOWER_HALF_MASK;
+        long z0 = t >> 32;
+        z1 += x2 * y1;
+        
+        return x1 * y1 + z0 + (z1 >> 32);
+    }
+    
+    /**
+     * Divides the unsigned 128-bit value <code>(high:low)</code> by an 
+     * unsigned divisor, where <code>high</code> is a remainder less than the
+     * divisor. The low bits are replaced with the quotient. Based on the 
+     * long division algorithm with 32-bit digits from Hacker's Delight.
+     * 
+     * @return Remainder of the division
+     */
+    private long divideLow(long remainderHigh, long divisor) {
+        if (remainderHigh == 0) {
+            long remainder = Long.remainderUnsigned(low, divisor);
+            this.low = Long.divideUnsigned(low, divisor);
+            return remainder;
+        }
+        
+        // Normalize so the top bit of the divisor is set
+        int shift = Long.numberOfLeadingZeros(divisor);
+        long normalizedDivisor = divisor << shift;
+        long divisorHigh = normalizedDivisor >>> 32;
+        long divisorLow = normalizedDivisor & LOWER_HALF_MASK;
+        
+        long dividendHigh = (shift == 0) ? remainderHigh : 
+                (remainderHigh << shift) | (low >>> (64 - shift));
+        long dividendLow = low << shift;
+        long dividendLowHigh = dividendLow >>> 32;
+        long dividendLowLow = dividendLow & LOWER_HALF_MASK;
+        
+        // First 32-bit digit of the quotient
+        long quotientHigh = Long.divideUnsigned(dividendHigh, divisorHigh);
+        long remainderHat = Long.remainderUnsigned(dividendHigh, divisorHigh);
+        while (Long.compareUnsigned(quotientHigh, HALF_BASE) >= 0 
+                || Long.compareUnsigned(quotientHigh * divisorLow, 
+                        (remainderHat << 32) | dividendLowHigh) > 0) {
+            quotientHigh--;
+            remainderHat += divisorHigh;
+            if (Long.compareUnsigned(remainderHat, HALF_BASE) >= 0) {
+                break;
+            }
+        }
+        
+        long partialDividend = (dividendHigh << 32) + dividendLowHigh 
+                - quotientHigh * normalizedDivisor;
+        
+        // Second 32-bit digit of the quotient
+        long quotientLow = Long.divideUnsigned(partialDividend, divisorHigh);
+        remainderHat = Long.remainderUnsigned(partialDividend, divisorHigh);
+        while (Long.compareUnsigned(quotientLow, HALF_BASE) >= 0 
+                || Long.compareUnsigned(quotientLow * divisorLow, 
+                        (remainderHat << 32) | dividendLowLow) > 0) {
+            quotientLow--;
+            remainderHat += divisorHigh;
+            if (Long.compareUnsigned(remainderHat, HALF_BASE) >= 0) {
+                break;
+            }
+        }
+        
+        this.low = (quotientHigh << 32) | quotientLow;
+        return ((partialDividend << 32) + dividendLowLow 
+                - quotientLow * normalizedDivisor) >>> shift;
+    }
+}
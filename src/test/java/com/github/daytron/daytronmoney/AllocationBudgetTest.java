@@ -0,0 +1,201 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney;
+
+import com.github.daytron.daytronmoney.collection.MoneyArrayList;
+import com.github.daytron.daytronmoney.currency.Money;
+import com.github.daytron.daytronmoney.currency.MoneyFactory;
+import java.lang.management.ManagementFactory;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the bytes allocated per call of the hot paths. Each call 
+ * is warmed up, then measured over many calls with the allocation counter 
+ * of the current thread. A budget is the exact allocation of a path today, 
+ * so a change that allocates more fails the build.
+ * 
+ * <p>Results are stored in a field, so they always count. Temporary 
+ * objects inside a call may still be removed by the JIT, so a budget is 
+ * the allocation on the least optimizing supported JVM, Java 8. The 
+ * budgets assume compressed object pointers, the default for heaps below 
+ * 32 GB. The tests are skipped on a JVM without the allocation counter.</p>
+ * 
+ * @author Ryan Gilera
+ */
+public class AllocationBudgetTest {
+    
+    private static final int WARMUP_CALLS = 20000;
+    private static final int MEASURED_CALLS = 10000;
+    
+    private static com.sun.management.ThreadMXBean threadMXBean;
+    
+    private final MoneyFactory mf = new MoneyFactory("USD");
+    private Object result;
+    
+    public AllocationBudgetTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+        java.lang.management.ThreadMXBean bean = 
+                ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        
+        threadMXBean = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+        threadMXBean = null;
+    }
+    
+    @Before
+    public void setUp() {
+    }
+    
+    @After
+    public void tearDown() {
+        result = null;
+    }
+    
+    /**
+     * Measures the average bytes allocated by a call.
+     * 
+     * @param call The call to measure, storing its result in a field
+     * @return Bytes allocated per call
+     */
+    private static long allocatedBytesPerCall(Runnable call) {
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            call.run();
+        }
+        
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            call.run();
+        }
+        long after = threadMXBean.getThreadAllocatedBytes(threadId);
+        
+        return (after - before) / MEASURED_CALLS;
+    }
+    
+    private static void assertBudget(String path, long budget, 
+            Runnable call) {
+        long allocated = allocatedBytesPerCall(call);
+        assertTrue(path + " allocated " + allocated 
+                + " bytes per call, over the budget of " + budget + ".", 
+                allocated <= budget);
+    }
+
+    /**
+     * Test of the allocation of add method, of class Money.
+     */
+    @Test
+    public void testAddBudget() {
+        // Given
+        Money first = mf.valueOf("1234.56");
+        Money second = mf.valueOf("0.075");
+        
+        // When / Then
+        // The Addition operation and the result
+        assertBudget("Money.add", 64, () -> {
+            result = first.add(second);
+        });
+    }
+    
+    /**
+     * Test of the allocation of compareTo method, of class Money.
+     */
+    @Test
+    public void testCompareToBudget() {
+        // Given
+        Money first = mf.valueOf("1234.56");
+        Money second = mf.valueOf("-1234.5678");
+        
+        // When / Then
+        assertBudget("Money.compareTo", 0, () -> {
+            result = first.compareTo(second) > 0 ? first : second;
+        });
+    }
+    
+    /**
+     * Test of the allocation of valueOf method, of class MoneyFactory.
+     */
+    @Test
+    public void testValueOfBudget() {
+        // Given
+        String amount = "-1,234.56";
+        String amountWithCode = "EUR 1234.56";
+        
+        // When / Then
+        // Only the result, the currency of the code is cached
+        assertBudget("MoneyFactory.valueOf", 40, () -> {
+            result = mf.valueOf(amount);
+        });
+        assertBudget("MoneyFactory.valueOf with code", 40, () -> {
+            result = mf.valueOf(amountWithCode);
+        });
+    }
+    
+    /**
+     * Test of the allocation of toStringDecimal method, of class Money.
+     */
+    @Test
+    public void testToStringDecimalBudget() {
+        // Given
+        Money money = mf.valueOf("-1234.56");
+        
+        // When / Then
+        // The String and its characters
+        assertBudget("Money.toStringDecimal", 88, () -> {
+            result = money.toStringDecimal();
+        });
+    }
+    
+    /**
+     * Test of the allocation of sum method, of class MoneyArrayList.
+     */
+    @Test
+    public void testSumBudget() {
+        // Given
+        MoneyArrayList list = new MoneyArrayList();
+        for (int i = 0; i < 1000; i++) {
+            list.add(mf.valueOf((i - 300) + "." + (i % 100)));
+        }
+        
+        // When / Then
+        // The same few objects for any number of values
+        assertBudget("MoneyArrayList.sum", 72, () -> {
+            result = list.sum();
+        });
+    }
+}
@@ -26,6 +26,8 @@ package com.github.daytron.daytronmoney.collection;
 import com.github.daytron.daytronmoney.currency.Money;
 import com.github.daytron.daytronmoney.currency.MoneyFactory;
 import com.github.daytron.daytronmoney.currency.SignValue;
+import java.util.ArrayList;
+import java.util.LinkedList;
 import java.util.List;
 import org.junit.After;
 import org.junit.AfterClass;
@@ -395,6 +397,43 @@ public class MoneyArrayListTest {
         assertEquals(expResult, result);
     }
 
+    /**
+     * Test of dot method, of class MoneyArrayList.
+     */
+    @Test
+    public void testDot() {
+        // Given
+        MoneyArrayList prices = new MoneyArrayList();
+        prices.add("1.25");
+        prices.add("-0.5");
+        prices.add("10");
+        MoneyArrayList quantities = new MoneyArrayList();
+        quantities.add("4");
+        quantities.add("3.1");
+        quantities.add("0.01");
+        
+        Money expResult = prices.get(0).multiply(quantities.get(0))
+                .add(prices.get(1).multiply(quantities.get(1)))
+                .add(prices.get(2).multiply(quantities.get(2)));
+        
+        // When
+        Money result = prices.dot(quantities);
+        
+        // Then
+        assertEquals(expResult.toStringDecimal(), result.toStringDecimal());
+        assertEquals("3.55", result.toStringDecimal());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testDotDifferentSizes() {
+        // Given
+        MoneyArrayList mal = new MoneyArrayList();
+        mal.add("1");
+        
+        // When
+        mal.dot(new MoneyArrayList());
+    }
+
     /**
      * Test of difference method, of class MoneyArrayList.
      */
@@ -739,4 +778,58 @@ public class MoneyArrayListTest {
         // When
         mal.quotient();
     }
+    
+    /**
+     * Test of parseAll method, of class MoneyArrayList.
+     */
+    @Test
+    public void testParseAll() {
+        // Given
+        List<String> amounts = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            amounts.add((i % 3 == 0 ? "-" : "") + i + "." + (i % 100));
+        }
+        amounts.add("GBP 1,234.5");
+        
+        MoneyArrayList expResult = new MoneyArrayList();
+        expResult.setMoneyFactory(new MoneyFactory("USD"));
+        for (String amount : amounts) {
+            expResult.add(amount);
+        }
+        
+        MoneyArrayList result1 = new MoneyArrayList();
+        result1.setMoneyFactory(new MoneyFactory("USD"));
+        MoneyArrayList result2 = new MoneyArrayList();
+        result2.setMoneyFactory(new MoneyFactory("USD"));
+        
+        // When
+        result1.parseAll(new LinkedList<>(amounts));
+        result2.parseAll(amounts.stream());
+        
+        // Then
+        assertEquals(expResult, result1);
+        assertEquals(expResult, result2);
+    }
+    
+    @Test
+    public void testParseAllInvalidAmount() {
+        // Given
+        List<String> amounts = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            amounts.add(Integer.toString(i));
+        }
+        amounts.add("1.2.3");
+        MoneyArrayList mal = new MoneyArrayList();
+        
+        // When
+        try {
+            mal.parseAll(amounts);
+            fail("Expected an IllegalArgumentException.");
+        } catch (IllegalArgumentException e) {
+            // Then
+            assertEquals("Invalid number entry. Multiple dots detected.", 
+                    e.getMessage());
+            assertTrue(mal.isEmpty());
+        }
+    }
 }
@@ -428,7 +428,7 @@ public class MoneyHashMapTest {
                 .wholeUnit(13)
                 .build());
         
-        Money expResult = mf.valueOf("-5.4634615384615385");
+        Money expResult = mf.valueOf("-5.463461538461538461");
         
         // When
         Money result = moneyHashMap.quotient();
@@ -116,4 +116,84 @@ public class AdditionTest {
         }
     }
     
+    /**
+     * Test of execute method with a sum whose decimal part has leading zeroes.
+     */
+    @Test
+    public void testExecuteLeadingDecimalZeros() {
+        MoneyFactory mf = new MoneyFactory();
+        
+        String[] valueA = new String[] {
+          "0.05","0","1.092","-5.5060","12.25"  
+        };
+        String[] valueB = new String[] {
+          "0.01","0.092579","-1","5.597","-0.5"  
+        };
+        String[] exptResults = new String[] {
+          "0.06","0.092579","0.092","0.0910","11.75"  
+        };
+        
+        for (int i = 0; i< valueA.length; i++) {
+            // Given
+            Money aMoney = mf.valueOf(valueA[i]);
+            Money bMoney = mf.valueOf(valueB[i]);
+            
+            MoneyOperation additionOperation = new Addition(aMoney, bMoney);
+            Money expectedResult = mf.valueOf(exptResults[i]);
+            
+            // When 
+            Money sumMoney = additionOperation.execute();
+            
+            // Then
+            assertEquals(expectedResult, sumMoney);
+        }
+    }
+    
+    /**
+     * Test of execute method with values that overflow a long when aligned.
+     */
+    @Test
+    public void testExecuteOverflowFallback() {
+        // Given
+        Money aMoney = new Money.Builder()
+                .wholeUnit(Long.MAX_VALUE - 1)
+                .decimalUnit(5)
+                .build();
+        Money bMoney = new Money.Builder()
+                .wholeUnit(1)
+                .decimalUnit(25)
+                .build();
+        Money expectedResult = new Money.Builder()
+                .wholeUnit(Long.MAX_VALUE)
+                .decimalUnit(75)
+                .build();
+        
+        MoneyOperation additionOperation = new Addition(aMoney, bMoney);
+        
+        // When 
+        Money sumMoney = additionOperation.execute();
+        
+        // Then
+        assertEquals(expectedResult, sumMoney);
+    }
+    
+    /**
+     * Test of execute method with a sum larger than a whole unit can hold.
+     */
+    @Test(expected = ArithmeticException.class)
+    public void testExecuteOutOfRange() {
+        // Given
+        Money aMoney = new Money.Builder()
+                .wholeUnit(Long.MAX_VALUE)
+                .build();
+        Money bMoney = new Money.Builder()
+                .wholeUnit(1)
+                .build();
+        
+        MoneyOperation additionOperation = new Addition(aMoney, bMoney);
+        
+        // When 
+        Money sumMoney = additionOperation.execute();
+    }
+    
 }
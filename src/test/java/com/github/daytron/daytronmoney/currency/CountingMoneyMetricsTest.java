@@ -0,0 +1,208 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.currency;
+
+import com.github.daytron.daytronmoney.currency.MoneyMetrics.Operation;
+import java.math.RoundingMode;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Test class for CountingMoneyMetrics
+ * 
+ * @author Ryan Gilera
+ */
+public class CountingMoneyMetricsTest {
+    
+    private CountingMoneyMetrics metrics;
+    
+    public CountingMoneyMetricsTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+    }
+    
+    @Before
+    public void setUp() {
+        metrics = new CountingMoneyMetrics(1);
+        MoneyMetrics.install(metrics);
+    }
+    
+    @After
+    public void tearDown() {
+        MoneyMetrics.uninstall();
+    }
+    
+    private static long totalOf(long[] histogram) {
+        long total = 0;
+        for (long count : histogram) {
+            total += count;
+        }
+        
+        return total;
+    }
+
+    /**
+     * Test of operationCompleted method, of class CountingMoneyMetrics.
+     */
+    @Test
+    public void testOperationCompleted() {
+        MoneyFactory mf = new MoneyFactory();
+        
+        // Given
+        Money first = mf.valueOf("12.50");
+        Money second = mf.valueOf("-0.25");
+        
+        // When
+        first.add(second);
+        first.add(second);
+        first.subtract(second);
+        first.multiply(second);
+        first.divide(second);
+        first.power(2, 4, RoundingMode.HALF_EVEN);
+        
+        // Then
+        assertEquals(2, metrics.getCompletedCount(Operation.ADDITION));
+        assertEquals(1, metrics.getCompletedCount(Operation.SUBTRACTION));
+        assertEquals(1, metrics.getCompletedCount(Operation.MULTIPLICATION));
+        assertEquals(1, metrics.getCompletedCount(Operation.DIVISION));
+        assertEquals(1, metrics.getCompletedCount(Operation.POWER));
+        assertEquals(2, metrics.getCompletedCount(Operation.PARSE));
+        assertEquals(2, totalOf(
+                metrics.getLatencyHistogram(Operation.ADDITION)));
+        assertEquals(CountingMoneyMetrics.HISTOGRAM_BUCKETS, 
+                metrics.getLatencyHistogram(Operation.POWER).length);
+    }
+    
+    /**
+     * Test of bigIntegerFallback method, of class CountingMoneyMetrics.
+     */
+    @Test
+    public void testBigIntegerFallback() {
+        MoneyFactory mf = new MoneyFactory();
+        
+        // Given
+        Money large = mf.valueOf("9223372036854775807.5");
+        Money small = mf.valueOf("-0.5");
+        
+        // When
+        large.add(small);
+        small.add(small);
+        large.multiply(small);
+        
+        // Then
+        assertEquals(1, metrics.getBigIntegerFallbackCount(
+                Operation.ADDITION));
+        assertEquals(1, metrics.getBigIntegerFallbackCount(
+                Operation.MULTIPLICATION));
+        assertEquals(0, metrics.getBigIntegerFallbackCount(
+                Operation.DIVISION));
+    }
+    
+    /**
+     * Test of parseFailed method, of class CountingMoneyMetrics.
+     */
+    @Test
+    public void testParseFailed() {
+        MoneyFactory mf = new MoneyFactory();
+        
+        // Given
+        String[] amounts = new String[]{"1.5", "1.2.3", "--4", "6"};
+        
+        // When
+        for (String amount : amounts) {
+            try {
+                mf.valueOf(amount);
+            } catch (IllegalArgumentException e) {
+                // Counted as a parse failure
+            }
+        }
+        
+        // Then
+        assertEquals(2, metrics.getCompletedCount(Operation.PARSE));
+        assertEquals(2, metrics.getParseFailureCount());
+    }
+    
+    /**
+     * Test of reset method, of class CountingMoneyMetrics.
+     */
+    @Test
+    public void testReset() {
+        MoneyFactory mf = new MoneyFactory();
+        
+        // Given
+        mf.valueOf("1.5").add(mf.valueOf("2"));
+        
+        // When
+        metrics.reset();
+        
+        // Then
+        assertEquals(0, metrics.getCompletedCount(Operation.ADDITION));
+        assertEquals(0, metrics.getCompletedCount(Operation.PARSE));
+        assertEquals(0, totalOf(metrics.getLatencyHistogram(Operation.PARSE)));
+    }
+    
+    /**
+     * Test of the installation of metrics, of interface MoneyMetrics.
+     */
+    @Test
+    public void testUninstall() {
+        MoneyFactory mf = new MoneyFactory();
+        
+        // Given
+        MoneyMetrics.uninstall();
+        
+        // When
+        mf.valueOf("1.5").add(mf.valueOf("2"));
+        
+        // Then
+        assertNotSame(metrics, MoneyMetrics.installed());
+        assertEquals(0, metrics.getCompletedCount(Operation.ADDITION));
+    }
+    
+    /**
+     * Test of constructor with an invalid sample interval, of class 
+     * CountingMoneyMetrics.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSampleInterval() {
+        // Given
+        int sampleInterval = 48;
+        
+        // When
+        CountingMoneyMetrics result = new CountingMoneyMetrics(sampleInterval);
+        
+        // Then
+        fail("Sample interval must be a power of two.");
+    }
+}
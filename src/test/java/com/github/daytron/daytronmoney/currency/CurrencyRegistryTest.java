@@ -0,0 +1,88 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.currency;
+
+import java.util.Currency;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Test class for CurrencyRegistry
+ * 
+ * @author Ryan Gilera
+ */
+public class CurrencyRegistryTest {
+    
+    public CurrencyRegistryTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+    }
+    
+    @Before
+    public void setUp() {
+    }
+    
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of of method, of class CurrencyRegistry.
+     */
+    @Test
+    public void testOf() {
+        // Given
+        CurrencyRegistry.Entry eurEntry = CurrencyRegistry.of("EUR");
+        CurrencyRegistry.Entry jpyEntry = CurrencyRegistry.of("jpy");
+        
+        // Then
+        assertSame(eurEntry, CurrencyRegistry.of("eur"));
+        assertSame(eurEntry, CurrencyRegistry.of(Currency.getInstance("EUR")));
+        assertSame(jpyEntry, CurrencyRegistry.ofOrdinal(jpyEntry.getOrdinal()));
+        assertNotEquals(eurEntry.getOrdinal(), jpyEntry.getOrdinal());
+        assertEquals("JPY", jpyEntry.getCurrencyCode());
+        assertEquals(2, eurEntry.getDefaultFractionDigits());
+        assertEquals(0, jpyEntry.getDefaultFractionDigits());
+    }
+    
+    /**
+     * Test of of method with an unknown currency code, of class 
+     * CurrencyRegistry.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testOfUnknownCurrencyCode() {
+        CurrencyRegistry.of("ABC");
+    }
+    
+}
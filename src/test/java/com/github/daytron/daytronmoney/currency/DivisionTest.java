@@ -23,6 +23,7 @@
  */
 package com.github.daytron.daytronmoney.currency;
 
+import java.math.RoundingMode;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -70,7 +71,7 @@ public class DivisionTest {
           "1.005","256","-12.5","96","0.003"  
         };
         String[] exptResults = new String[] {
-          "6901.19402985074626866","0","0.08464","-0.1250625","0.6666666666666666"  
+          "6901.194029850746268656","0","0.08464","-0.1250625","0.666666666666666666"  
         };
         
         for (int i = 0; i< valueA.length; i++) {
@@ -89,4 +90,42 @@ public class DivisionTest {
         }
     }
     
+    /**
+     * Test of execute method with explicit scale and rounding mode, of class
+     * Division.
+     */
+    @Test
+    public void testExecuteWithRoundingMode() {
+        MoneyFactory mf = new MoneyFactory();
+        
+        Money aMoney = mf.valueOf("2");
+        Money bMoney = mf.valueOf("3");
+        Money cMoney = mf.valueOf("-0.25");
+        
+        assertEquals(mf.valueOf("0.66"), 
+                new Division(aMoney, bMoney, 2, RoundingMode.DOWN).execute());
+        assertEquals(mf.valueOf("0.67"), 
+                new Division(aMoney, bMoney, 2, RoundingMode.HALF_UP).execute());
+        assertEquals(mf.valueOf("-0.2"), 
+                new Division(cMoney, mf.valueOf("1"), 1, 
+                        RoundingMode.HALF_EVEN).execute());
+        assertEquals(mf.valueOf("-0.3"), 
+                new Division(cMoney, mf.valueOf("1"), 1, 
+                        RoundingMode.FLOOR).execute());
+        assertEquals(mf.valueOf("1"), 
+                new Division(aMoney, bMoney, 0, RoundingMode.HALF_EVEN).execute());
+    }
+    
+    /**
+     * Test of execute method when rounding is required but forbidden, of 
+     * class Division.
+     */
+    @Test(expected = ArithmeticException.class)
+    public void testExecuteRoundingNecessary() {
+        MoneyFactory mf = new MoneyFactory();
+        
+        new Division(mf.valueOf("2"), mf.valueOf("3"), 2, 
+                RoundingMode.UNNECESSARY).execute();
+    }
+    
 }
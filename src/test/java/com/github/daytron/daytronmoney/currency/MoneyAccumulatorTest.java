@@ -0,0 +1,153 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.currency;
+
+import com.github.daytron.daytronmoney.exception.CurrencyDidNotMatchException;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Test class for MoneyAccumulator
+ * 
+ * @author Ryan Gilera
+ */
+public class MoneyAccumulatorTest {
+    
+    public MoneyAccumulatorTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+    }
+    
+    @Before
+    public void setUp() {
+    }
+    
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of add and subtract methods, of class MoneyAccumulator.
+     */
+    @Test
+    public void testAddAndSubtract() {
+        MoneyFactory mf = new MoneyFactory();
+        
+        // Given
+        String[] values = new String[] {
+            "1.25","0.75","0.1","-3.005","12"
+        };
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+        Money expResult = mf.valueOf();
+        
+        // When
+        for (String value : values) {
+            accumulator.add(mf.valueOf(value));
+            expResult = expResult.add(mf.valueOf(value));
+        }
+        accumulator.subtract(mf.valueOf("0.005"));
+        expResult = expResult.subtract(mf.valueOf("0.005"));
+        
+        // Then
+        assertEquals(expResult, accumulator.toMoney());
+        assertEquals(0, mf.valueOf("11.09").compareTo(accumulator.toMoney()));
+    }
+    
+    /**
+     * Test of multiplyAdd method, of class MoneyAccumulator.
+     */
+    @Test
+    public void testMultiplyAdd() {
+        MoneyFactory mf = new MoneyFactory();
+        
+        // Given
+        Money price = mf.valueOf("26.95");
+        Money quantity = mf.valueOf("216");
+        Money rate = mf.valueOf("0.5");
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+        
+        // When
+        accumulator.multiplyAdd(price, quantity).multiplyAdd(price, rate);
+        
+        // Then
+        assertEquals(price.multiply(quantity).add(price.multiply(rate)), 
+                accumulator.toMoney());
+    }
+    
+    /**
+     * Test of add method with a total beyond the range of a 
+     * <code>long</code> unscaled value, of class MoneyAccumulator.
+     */
+    @Test
+    public void testAddOverflow() {
+        MoneyFactory mf = new MoneyFactory();
+        
+        // Given
+        Money maxMoney = mf.valueOf("9,223,372,036,854,775,807");
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+        
+        // When
+        accumulator.add(maxMoney).add(maxMoney).add(mf.valueOf("0.5"))
+                .subtract(maxMoney);
+        
+        // Then
+        assertEquals(maxMoney.add(mf.valueOf("0.5")), accumulator.toMoney());
+        assertEquals(mf.valueOf(), accumulator.reset().toMoney());
+    }
+    
+    /**
+     * Test of add method with a different currency, of class 
+     * MoneyAccumulator.
+     */
+    @Test(expected = CurrencyDidNotMatchException.class)
+    public void testAddDifferentCurrency() {
+        MoneyAccumulator accumulator = new MoneyAccumulator(
+                CurrencyRegistry.of("EUR"));
+        
+        accumulator.add(new MoneyFactory("JPY").valueOf(5));
+    }
+    
+    /**
+     * Test of toMoney method with a total beyond the range of Money, of class
+     * MoneyAccumulator.
+     */
+    @Test(expected = ArithmeticException.class)
+    public void testToMoneyOutOfRange() {
+        MoneyFactory mf = new MoneyFactory();
+        Money maxMoney = mf.valueOf("9,223,372,036,854,775,807");
+        
+        new MoneyAccumulator().add(maxMoney).add(maxMoney).toMoney();
+    }
+    
+}
@@ -0,0 +1,202 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.currency;
+
+import com.github.daytron.daytronmoney.exception.CurrencyDidNotMatchException;
+import java.util.Arrays;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Test class for MoneyExpression
+ * 
+ * @author Ryan Gilera
+ */
+public class MoneyExpressionTest {
+    
+    private CurrencyRegistry.Entry usd;
+    private MoneyFactory usdFactory;
+    
+    public MoneyExpressionTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+    }
+    
+    @Before
+    public void setUp() {
+        usd = CurrencyRegistry.of("USD");
+        usdFactory = new MoneyFactory("USD");
+    }
+    
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of evaluate method, of class MoneyExpression.
+     */
+    @Test
+    public void testEvaluate() {
+        // Given
+        MoneyExpression expression = MoneyExpression.compile(
+                "(gross - discount) * rate + fee", usd);
+        MoneyExpression.Evaluator evaluator = expression.newEvaluator();
+        String[][] rows = new String[][] {
+            {"100", "12.5", "0.2", "1.99"},
+            {"-3.333", "0", "1.5", "0"},
+            {"0.0001", "0.0001", "7", "-5"}
+        };
+        
+        for (String[] row : rows) {
+            Money gross = usdFactory.valueOf(row[0]);
+            Money discount = usdFactory.valueOf(row[1]);
+            Money rate = usdFactory.valueOf(row[2]);
+            Money fee = usdFactory.valueOf(row[3]);
+            Money expResult = gross.subtract(discount).multiply(rate).add(fee);
+            
+            // When
+            Money result = evaluator.evaluate(gross, discount, rate, fee);
+            
+            // Then
+            assertEquals(expResult.toStringDecimal(), result.toStringDecimal());
+        }
+        
+        assertEquals(Arrays.asList("gross", "discount", "rate", "fee"), 
+                expression.getVariableNames());
+    }
+    
+    /**
+     * Test of operator precedence and numbers, of class MoneyExpression.
+     */
+    @Test
+    public void testPrecedenceAndNumbers() {
+        // Given
+        MoneyExpression expression = MoneyExpression.compile(
+                "2 + 3 * -x - (1.5 - 0.25) * 2", usd);
+        Money x = usdFactory.valueOf("4");
+        
+        // When
+        Money result = expression.evaluate(x);
+        
+        // Then
+        assertEquals(0, usdFactory.valueOf("-12.5").compareTo(result));
+    }
+    
+    /**
+     * Test of evaluate method with values beyond the range of long, of class
+     * MoneyExpression.
+     */
+    @Test
+    public void testEvaluateLargeValues() {
+        // Given
+        MoneyExpression expression = MoneyExpression.compile(
+                "a * b - a * b + c", usd);
+        Money a = usdFactory.valueOf("5000000000000");
+        Money b = usdFactory.valueOf("3000000000.123");
+        Money c = usdFactory.valueOf("9000000000000000000.000000001");
+        
+        // When
+        Money result = expression.evaluate(a, b, c);
+        
+        // Then
+        assertEquals(c, result);
+    }
+    
+    /**
+     * Test of compile method with numbers whose intermediate results are 
+     * beyond the range of Money, of class MoneyExpression.
+     */
+    @Test
+    public void testCompileLargeIntermediateNumbers() {
+        // Given
+        MoneyExpression expression = MoneyExpression.compile(
+                "9223372036854775807 * 10 - 9223372036854775807 * 9", usd);
+        Money expResult = usdFactory.valueOf("9223372036854775807");
+        
+        // When
+        Money result = expression.evaluate();
+        
+        // Then
+        assertEquals(0, expResult.compareTo(result));
+    }
+    
+    @Test(expected = ArithmeticException.class)
+    public void testEvaluateOutOfRange() {
+        // Given
+        MoneyExpression expression = MoneyExpression.compile("a * a", usd);
+        
+        // When
+        expression.evaluate(usdFactory.valueOf("5000000000"));
+    }
+    
+    /**
+     * Test of compile method with invalid expressions, of class 
+     * MoneyExpression.
+     */
+    @Test
+    public void testCompileInvalidExpressions() {
+        // Given
+        String[] expressions = new String[] {
+            "a +", "(a + b", "a # b", "1.2.3"
+        };
+        String[] expMessages = new String[] {
+            "Invalid expression. Unexpected end of expression.",
+            "Invalid expression. Missing closing parenthesis at index 6.",
+            "Invalid expression. Unexpected character at index 2.",
+            "Invalid number entry. Multiple dots detected."
+        };
+        
+        for (int i = 0; i < expressions.length; i++) {
+            // When
+            String resultMessage = null;
+            try {
+                MoneyExpression.compile(expressions[i], usd);
+            } catch (IllegalArgumentException e) {
+                resultMessage = e.getMessage();
+            }
+            
+            // Then
+            assertEquals(expMessages[i], resultMessage);
+        }
+    }
+    
+    @Test(expected = CurrencyDidNotMatchException.class)
+    public void testEvaluateDifferentCurrency() {
+        // Given
+        MoneyExpression expression = MoneyExpression.compile("a + 1", usd);
+        
+        // When
+        expression.evaluate(new MoneyFactory("EUR").valueOf("1"));
+    }
+}
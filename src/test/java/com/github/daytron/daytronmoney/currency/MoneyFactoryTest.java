@@ -23,8 +23,16 @@
  */
 package com.github.daytron.daytronmoney.currency;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Currency;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -343,6 +351,204 @@ public class MoneyFactoryTest {
         }
     }
 
+    /**
+     * Test of valueOf method with invalid inputs, of class MoneyFactory.
+     */
+    @Test
+    public void testValueOf_StringInvalidInputs() {
+        // Given
+        String[] listOfInputs = new String[]
+        {"1.2.3",
+         "USD .5",
+         "-.5",
+         "--5.5",
+         "+-5",
+         "1.",
+         "12a",
+         "12345678901234567890"};
+        
+        String[] expectedMessages = new String[]
+        {"Invalid number entry. Multiple dots detected.",
+         "Invalid number entry. Invalid use of decimal point.",
+         "Invalid number entry. Invalid use of decimal point.",
+         "Invalid number entry. Invalid use of sign symbols.",
+         "Invalid number entry. Invalid use of sign symbols.",
+         "Invalid number entry.",
+         "Invalid number entry.",
+         "Invalid number entry."};
+        
+        for (int i = 0; i < listOfInputs.length; i++) {
+            // When
+            String resultMessage = null;
+            try {
+                usdMoneyFactory.valueOf(listOfInputs[i]);
+            } catch (IllegalArgumentException e) {
+                resultMessage = e.getMessage();
+            }
+            
+            // Then
+            assertEquals(expectedMessages[i], resultMessage);
+        }
+    }
+
+    /**
+     * Test of valueOf method with a CharSequence range, of class MoneyFactory.
+     */
+    @Test
+    public void testValueOf_CharSequenceRange() {
+        // Given
+        StringBuilder record = new StringBuilder("ID42|GBP 12.5|USD-1,234.05|");
+        Money expResult1 = usdMoneyFactory.valueOf("GBP 12.5");
+        Money expResult2 = usdMoneyFactory.valueOf("USD-1,234.05");
+        
+        // When
+        Money result1 = usdMoneyFactory.valueOf(record, 5, 13);
+        Money result2 = usdMoneyFactory.valueOf(record, 14, 26);
+        
+        // Then
+        assertEquals(expResult1, result1);
+        assertEquals(expResult2, result2);
+    }
+    
+    /**
+     * Test of valueOf method with a byte array, of class MoneyFactory.
+     */
+    @Test
+    public void testValueOf_bytes() {
+        // Given
+        byte[] record = "ID42;  -0.0025 ;12".getBytes(StandardCharsets.US_ASCII);
+        Money expResult1 = usdMoneyFactory.valueOf("-0.0025");
+        Money expResult2 = usdMoneyFactory.valueOf("12");
+        
+        // When
+        Money result1 = usdMoneyFactory.valueOf(record, 5, 10);
+        Money result2 = usdMoneyFactory.valueOf(record, 16, 2);
+        
+        // Then
+        assertEquals(expResult1, result1);
+        assertEquals(expResult2, result2);
+    }
+    
+    /**
+     * Test of valueOf method with a ByteBuffer, of class MoneyFactory.
+     */
+    @Test
+    public void testValueOf_ByteBuffer() {
+        // Given
+        byte[] record = "ID42;GBP 896,586.0025634589;".getBytes(
+                StandardCharsets.UTF_8);
+        ByteBuffer heapBuffer = ByteBuffer.wrap(record);
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(record.length);
+        directBuffer.put(record);
+        Money expResult = usdMoneyFactory.valueOf("GBP 896,586.0025634589");
+        
+        // When
+        heapBuffer.position(5).limit(record.length - 1);
+        directBuffer.position(5).limit(record.length - 1);
+        Money result1 = usdMoneyFactory.valueOf(heapBuffer);
+        Money result2 = usdMoneyFactory.valueOf(directBuffer);
+        
+        // Then
+        assertEquals(expResult, result1);
+        assertEquals(expResult, result2);
+        assertEquals(5, heapBuffer.position());
+        assertEquals(5, directBuffer.position());
+    }
+
+    /**
+     * Test of valueOf method with a shared factory parsing on several 
+     * threads, of class MoneyFactory.
+     */
+    @Test
+    public void testValueOf_StringConcurrent() throws Exception {
+        // Given
+        final String[] inputs = new String[] {
+            "USD 1.25","GBP -2.5","EUR 896,586.0025634589","JPY 4",
+            "CAD -0.0025","CHF 12","AUD 7.75","-9.99"
+        };
+        final Money[] expResults = new Money[inputs.length];
+        for (int i = 0; i < inputs.length; i++) {
+            expResults[i] = new MoneyFactory("USD").valueOf(inputs[i]);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(
+                inputs.length);
+        List<Future<Integer>> mismatches = new ArrayList<>();
+        
+        // When
+        try {
+            for (int i = 0; i < inputs.length; i++) {
+                final int index = i;
+                mismatches.add(executor.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() {
+                        int count = 0;
+                        for (int j = 0; j < 20000; j++) {
+                            Money result = usdMoneyFactory.valueOf(
+                                    inputs[index]);
+                            if (!expResults[index].equals(result)) {
+                                count++;
+                            }
+                        }
+                        return count;
+                    }
+                }));
+            }
+            
+            // Then
+            for (Future<Integer> mismatch : mismatches) {
+                assertEquals(Integer.valueOf(0), mismatch.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Test of valueOf method with byte arrays and a shared factory parsing 
+     * on several threads, of class MoneyFactory.
+     */
+    @Test
+    public void testValueOf_bytesConcurrent() throws Exception {
+        // Given
+        String[] inputs = new String[] {
+            "USD 1.25","GBP -2.5","EUR 896,586.0025634589","JPY 4"
+        };
+        final byte[][] records = new byte[inputs.length][];
+        final Money[] expResults = new Money[inputs.length];
+        for (int i = 0; i < inputs.length; i++) {
+            records[i] = inputs[i].getBytes(StandardCharsets.US_ASCII);
+            expResults[i] = new MoneyFactory("USD").valueOf(inputs[i]);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(
+                inputs.length);
+        List<Future<Integer>> mismatches = new ArrayList<>();
+        
+        // When
+        try {
+            for (int i = 0; i < inputs.length; i++) {
+                final int index = i;
+                mismatches.add(executor.submit(() -> {
+                    int count = 0;
+                    for (int j = 0; j < 20000; j++) {
+                        Money result = usdMoneyFactory.valueOf(
+                                records[index], 0, records[index].length);
+                        if (!expResults[index].equals(result)) {
+                            count++;
+                        }
+                    }
+                    return count;
+                }));
+            }
+            
+            // Then
+            for (Future<Integer> mismatch : mismatches) {
+                assertEquals(Integer.valueOf(0), mismatch.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     /**
      * Test of valueOf method, of class MoneyFactory.
      */
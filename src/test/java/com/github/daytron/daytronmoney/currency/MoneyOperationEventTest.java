@@ -0,0 +1,139 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.currency;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Test class for MoneyOperationEvent
+ * 
+ * @author Ryan Gilera
+ */
+public class MoneyOperationEventTest {
+    
+    private static final String EVENT_NAME = 
+            "com.github.daytron.daytronmoney.MoneyOperation";
+    
+    public MoneyOperationEventTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+    }
+    
+    @Before
+    public void setUp() {
+    }
+    
+    @After
+    public void tearDown() {
+    }
+    
+    private static List<RecordedEvent> readEvents(Recording recording) 
+            throws IOException {
+        Path file = Files.createTempFile("money-operation", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Test of the recording of operations, of class MoneyOperationEvent.
+     * 
+     * @throws IOException if the recording cannot be read
+     */
+    @Test
+    public void testRecordedOperation() throws IOException {
+        MoneyFactory mf = new MoneyFactory();
+        
+        // Given
+        Money first = mf.valueOf("12.505");
+        Money second = mf.valueOf("-0.25");
+        List<RecordedEvent> events;
+        
+        // When
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT_NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            first.multiply(second);
+            recording.stop();
+            events = readEvents(recording);
+        }
+        
+        // Then
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("MULTIPLICATION", event.getString("operation"));
+        assertEquals(3, event.getInt("thisScale"));
+        assertEquals(2, event.getInt("thatScale"));
+    }
+    
+    /**
+     * Test of the threshold, of class MoneyOperationEvent.
+     * 
+     * @throws IOException if the recording cannot be read
+     */
+    @Test
+    public void testThreshold() throws IOException {
+        MoneyFactory mf = new MoneyFactory();
+        
+        // Given
+        Money first = mf.valueOf("12.505");
+        Money second = mf.valueOf("-0.25");
+        List<RecordedEvent> events;
+        
+        // When
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT_NAME).withThreshold(Duration.ofHours(1));
+            recording.start();
+            first.add(second);
+            recording.stop();
+            events = readEvents(recording);
+        }
+        
+        // Then
+        assertTrue(events.isEmpty());
+        assertFalse(MoneyOperationEvent.isTypeEnabled());
+    }
+}
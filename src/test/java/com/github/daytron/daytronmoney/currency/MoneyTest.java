@@ -23,6 +23,7 @@
  */
 package com.github.daytron.daytronmoney.currency;
 
+import java.io.IOException;
 import java.util.Currency;
 import java.util.Locale;
 import org.junit.After;
@@ -310,6 +311,115 @@ public class MoneyTest {
         assertEquals(expResult, result);
     }
 
+    /**
+     * Test of build method with the maximum number of decimal places, 
+     * of class Money.Builder.
+     */
+    @Test
+    public void testBuildMaxScale() {
+        // Given:
+        MoneyFactory mf = new MoneyFactory("USD");
+        
+        // When:
+        Money result = mf.valueOf(1, 5, Money.MAX_SCALE - 1);
+        
+        // Then:
+        assertEquals(Money.MAX_SCALE - 1, result.getLeadingDecimalZeros());
+        assertEquals(1, result.getWholeUnit());
+    }
+
+    /**
+     * Test of build method beyond the maximum number of decimal places 
+     * without a whole unit, of class Money.Builder.
+     */
+    @Test
+    public void testBuildScaleBeyondMaxWithoutWholeUnit() {
+        // Given:
+        MoneyFactory mf = new MoneyFactory("USD");
+        
+        // When:
+        Money result = mf.valueOf(0, 5, 2000);
+        Money rebuilt = new Money.Builder()
+                .currencyCode("USD")
+                .decimalUnit(result.getDecimalUnit())
+                .leadingDecimalZeroes(result.getLeadingDecimalZeros())
+                .build();
+        
+        // Then:
+        assertEquals(2000, result.getLeadingDecimalZeros());
+        assertEquals(5, result.getDecimalUnit());
+        assertEquals(result, rebuilt);
+    }
+
+    /**
+     * Test of build method beyond the maximum number of decimal places 
+     * with a whole unit, of class Money.Builder.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testBuildScaleBeyondMax() {
+        // Given:
+        MoneyFactory mf = new MoneyFactory("USD");
+        
+        // When:
+        mf.valueOf(1, 5, 100000000);
+    }
+
+    /**
+     * Test of unit getters for a value beyond the range of a 
+     * <code>long</code> unscaled value, of class Money.
+     */
+    @Test
+    public void testGetUnitsOfLargeValue() {
+        // Given:
+        Money instance = new Money.Builder()
+                .sign(SignValue.Negative)
+                .wholeUnit(Long.MAX_VALUE)
+                .decimalUnit(Long.MAX_VALUE)
+                .leadingDecimalZeroes(3)
+                .build();
+
+        // When:
+        Money result = instance.negate().negate();
+
+        // Then:
+        assertEquals(instance, result);
+        assertEquals(SignValue.Negative, result.getSign());
+        assertEquals(Long.MAX_VALUE, result.getWholeUnit());
+        assertEquals(Long.MAX_VALUE, result.getDecimalUnit());
+        assertEquals(3, result.getLeadingDecimalZeros());
+        assertFalse(result.isWholeNumber());
+    }
+
+    /**
+     * Test of valueOf method, of class Money.
+     */
+    @Test
+    public void testValueOf() {
+        // Given:
+        CurrencyRegistry.Entry currency = CurrencyRegistry.of("USD");
+        MoneyFactory mf = new MoneyFactory("USD");
+
+        // Then:
+        assertSame(Money.valueOf(0, currency), mf.valueOf());
+        assertSame(Money.valueOf(-128, currency), mf.valueOf(-128));
+        assertSame(Money.valueOf(127, currency), mf.valueOf("127"));
+        assertSame(Money.valueOf(1, currency), 
+                mf.valueOf("0.5").multiply(mf.valueOf("2")));
+        assertEquals(mf.valueOf("128"), Money.valueOf(128, currency));
+        assertEquals(mf.valueOf("-9,223,372,036,854,775,807"), 
+                Money.valueOf(-Long.MAX_VALUE, currency));
+        assertEquals("USD", Money.valueOf(5, currency).getCurrencyCode());
+    }
+
+    /**
+     * Test of valueOf method with a value beyond the range of Money, of class
+     * Money.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testValueOfOutOfRange() {
+        Money.valueOf(Long.MIN_VALUE, CurrencyRegistry.getDefault());
+    }
+
     /**
      * Test of getCurrencyCode method, of class Money.
      */
@@ -1637,6 +1747,23 @@ public class MoneyTest {
         // Then:
         assertEquals("Case 2: Value = 0.", expResult2, result2);
 
+        // Case 3: Value beyond the precision of double
+        // Given:
+        Money instance3 = new Money.Builder()
+                .currencyCode("PHP")
+                .sign(SignValue.Positive)
+                .wholeUnit(9007199254740993L)
+                .decimalUnit(999)
+                .build();
+        String expResult3 = "PHP9,007,199,254,740,993.99";
+
+        // When:
+        String result3 = instance3.toString();
+
+        // Then:
+        assertEquals("Case 3: Value beyond double precision.", expResult3, 
+                result3);
+
     }
 
     /**
@@ -1726,6 +1853,96 @@ public class MoneyTest {
         assertTrue(moneyA.equals(moneyB) && moneyB.equals(moneyA));
         assertTrue(moneyA.hashCode() == moneyB.hashCode());
     }
+    
+    /**
+     * Test of equals and hashCode methods with trailing decimal zeros, of 
+     * class Money.
+     */
+    @Test
+    public void testEqualsTrailingZeros() {
+        // Given
+        MoneyFactory usdFactory = new MoneyFactory("USD");
+        Money moneyA = usdFactory.valueOf("1.5");
+        Money moneyB = usdFactory.valueOf("1.500");
+        Money moneyC = new Money.Builder()
+                .currencyCode("USD")
+                .wholeUnit(1)
+                .decimalUnit(5)
+                .build();
+        Money moneyD = usdFactory.valueOf("-1.5");
+        Money moneyE = new MoneyFactory("EUR").valueOf("1.5");
+        Money largeMoneyA = usdFactory.valueOf("100000000000000000.50");
+        Money largeMoneyB = new Money.Builder()
+                .currencyCode("USD")
+                .wholeUnit(100000000000000000L)
+                .decimalUnit(5)
+                .build();
+        
+        // When and Then
+        assertTrue(moneyA.equals(moneyC) && moneyC.equals(moneyA));
+        assertTrue(moneyB.equals(moneyC) && moneyC.equals(moneyB));
+        assertEquals(moneyA.hashCode(), moneyC.hashCode());
+        assertEquals(moneyB.hashCode(), moneyC.hashCode());
+        assertFalse(moneyA.equals(moneyD));
+        assertFalse(moneyA.equals(moneyE));
+        assertEquals(largeMoneyA, largeMoneyB);
+        assertEquals(largeMoneyA.hashCode(), largeMoneyB.hashCode());
+    }
+
+    /**
+     * Test of compareTo method with different decimal places, of class Money.
+     */
+    @Test
+    public void testCompareToDifferentScales() {
+        MoneyFactory mf = new MoneyFactory();
+        
+        String[] valueA = new String[] {
+            "1.5","1.05","-0.5","0.5","0.0000000000000000001","-2"
+        };
+        String[] valueB = new String[] {
+            "1.50","1.0499999999","-0.5000000000000000001",
+            "0.5000000000000000001","0.0000000000000000002","-1.99"
+        };
+        int[] exptResults = new int[] {
+            0, 1, 1, -1, -1, -1
+        };
+        
+        for (int i = 0; i < valueA.length; i++) {
+            // Given
+            Money aMoney = mf.valueOf(valueA[i]);
+            Money bMoney = mf.valueOf(valueB[i]);
+            
+            // Then
+            assertEquals(exptResults[i], aMoney.compareTo(bMoney));
+            assertEquals(-exptResults[i], bMoney.compareTo(aMoney));
+        }
+        
+        // More than 18 decimal places apart
+        Money tinyMoney = new Money.Builder()
+                .wholeUnit(1)
+                .decimalUnit(1)
+                .leadingDecimalZeroes(24)
+                .build();
+        assertEquals(1, mf.valueOf("1.1").compareTo(tinyMoney));
+        assertEquals(-1, mf.valueOf("1").compareTo(tinyMoney));
+        
+        assertTrue(mf.valueOf("1.5").isLessThanOrEqualTo(mf.valueOf("1.50")));
+        assertTrue(mf.valueOf("1.5").isGreaterThanOrEqualTo(mf.valueOf("1.50")));
+    }
+    
+    /**
+     * Test of signum method, of class Money.
+     */
+    @Test
+    public void testSignum() {
+        MoneyFactory mf = new MoneyFactory();
+        
+        assertEquals(1, mf.valueOf("0.01").signum());
+        assertEquals(0, mf.valueOf("0").signum());
+        assertEquals(-1, mf.valueOf("-12").signum());
+        assertFalse(mf.valueOf("-12").isGreaterThanZero());
+        assertTrue(mf.valueOf("-12").isLessThanZero());
+    }
 
     /**
      * Test of compareTo method, of class Money.
@@ -2293,6 +2510,51 @@ public class MoneyTest {
                 + expResult + ", but instead it's " + result, expResult, result);
     }
 
+    /**
+     * Test of formatTo methods, of class Money.
+     */
+    @Test
+    public void testFormatTo() throws IOException {
+        MoneyFactory mf = new MoneyFactory();
+        
+        // Given
+        Money[] values = new Money[] {
+            mf.valueOf("-12.0005"),
+            mf.valueOf("0"),
+            mf.valueOf("9,223,372,036,854,775,807.25"),
+            new Money.Builder()
+                .sign(SignValue.Negative)
+                .decimalUnit(7)
+                .leadingDecimalZeroes(20)
+                .build()
+        };
+        StringBuilder builder = new StringBuilder();
+        char[] buffer = new char[64];
+        
+        for (Money value : values) {
+            // When
+            builder.setLength(0);
+            value.formatTo(builder);
+            int end = value.formatTo(buffer, 3);
+            
+            // Then
+            assertEquals(value.toStringDecimal(), builder.toString());
+            assertEquals(value.toStringDecimal(), 
+                    new String(buffer, 3, end - 3));
+            assertEquals(value.formattedLength(), end - 3);
+        }
+        assertEquals("-0.000000000000000000007", values[3].toStringDecimal());
+    }
+    
+    /**
+     * Test of formatTo method with a buffer that is too small, of class 
+     * Money.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testFormatToSmallBuffer() {
+        new MoneyFactory().valueOf("-12.0005").formatTo(new char[8], 1);
+    }
+
     /**
      * Test of toStringDecimal method, of class Money.
      */
@@ -2497,6 +2759,30 @@ public class MoneyTest {
         }
     }
 
+    /**
+     * Test of multiplyAdd method, of class Money.
+     */
+    @Test
+    public void testMultiplyAdd() {
+        // Given
+        MoneyFactory usdFactory = new MoneyFactory("USD");
+        Money price = usdFactory.valueOf("19.99");
+        Money quantity = usdFactory.valueOf("3");
+        Money fee = usdFactory.valueOf("-0.125");
+        Money largePrice = usdFactory.valueOf("5000000000000000000");
+        Money largeFee = usdFactory.valueOf("-9000000000000000000");
+        
+        // When
+        Money result1 = price.multiplyAdd(quantity, fee);
+        Money result2 = largePrice.multiplyAdd(quantity, largeFee);
+        
+        // Then
+        assertEquals(price.multiply(quantity).add(fee).toStringDecimal(), 
+                result1.toStringDecimal());
+        assertEquals("59.845", result1.toStringDecimal());
+        assertEquals(usdFactory.valueOf("6000000000000000000"), result2);
+    }
+
     /**
      * Test of multiply method, of class Money.
      */
@@ -2776,13 +3062,13 @@ public class MoneyTest {
         
         Money[] listOfExpResults = new Money[]
         {
-            m.valueOf("0.9516837481698389"),
-            m.valueOf("16.16484544378310848"),
+            m.valueOf("0.951683748169838945"),
+            m.valueOf("16.164845443783108473"),
             new Money.Builder().build(),
-            m.valueOf("-16.16511819486194687"),
+            m.valueOf("-16.165118194861946873"),
             m.valueOf("-0.000337438839210393"),
-            m.valueOf("-1.013138113602196222"),
-            m.valueOf("-489.8347107438016529"),
+            m.valueOf("-1.013138113602196221"),
+            m.valueOf("-489.834710743801652892"),
             new Money.Builder()
                 .sign(SignValue.Positive)
                 .wholeUnit(27)
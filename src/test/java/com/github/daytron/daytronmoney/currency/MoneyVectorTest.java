@@ -0,0 +1,315 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.currency;
+
+import com.github.daytron.daytronmoney.exception.CurrencyDidNotMatchException;
+import java.math.RoundingMode;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Test class for MoneyVector
+ * 
+ * @author Ryan Gilera
+ */
+public class MoneyVectorTest {
+    
+    private static final String[] VALUES = new String[] {
+        "1.25","-0.75","0.1","-3.005","12","0.000001","-99.9"
+    };
+    
+    private MoneyFactory mf;
+    private MoneyVector vector;
+    
+    public MoneyVectorTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+    }
+    
+    @Before
+    public void setUp() {
+        mf = new MoneyFactory();
+        vector = new MoneyVector(2);
+        for (String value : VALUES) {
+            vector.add(mf.valueOf(value));
+        }
+    }
+    
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of add and get methods, of class MoneyVector.
+     */
+    @Test
+    public void testAddAndGet() {
+        // Given
+        int expSize = VALUES.length;
+        int expScale = 6;
+        
+        // When
+        int resultSize = vector.size();
+        int resultScale = vector.getScale();
+        
+        // Then
+        assertEquals(expSize, resultSize);
+        assertEquals(expScale, resultScale);
+        for (int i = 0; i < VALUES.length; i++) {
+            assertEquals(mf.valueOf(VALUES[i]), vector.get(i));
+        }
+    }
+    
+    /**
+     * Test of sum, min and max methods, of class MoneyVector.
+     */
+    @Test
+    public void testSumMinAndMax() {
+        // Given
+        Money expSum = mf.valueOf();
+        for (String value : VALUES) {
+            expSum = expSum.add(mf.valueOf(value));
+        }
+        Money expMin = mf.valueOf("-99.9");
+        Money expMax = mf.valueOf("12");
+        
+        // When
+        Money resultSum = vector.sum();
+        Money resultMin = vector.min();
+        Money resultMax = vector.max();
+        
+        // Then
+        assertEquals(0, expSum.compareTo(resultSum));
+        assertEquals(expMin, resultMin);
+        assertEquals(expMax, resultMax);
+        assertTrue(vector.hasNegativeValue());
+        assertTrue(vector.hasPositiveValue());
+        assertFalse(vector.isAllPositiveValues());
+    }
+    
+    /**
+     * Test of sum method with values near the range of long, 
+     * of class MoneyVector.
+     */
+    @Test
+    public void testSumBeyondLongRange() {
+        // Given
+        MoneyVector largeVector = new MoneyVector();
+        Money large = mf.valueOf("9000000000000000000");
+        largeVector.add(large);
+        largeVector.add(large);
+        largeVector.add(large.negate());
+        largeVector.add(mf.valueOf("1"));
+        Money expResult = mf.valueOf("9000000000000000001");
+        
+        // When
+        Money result = largeVector.sum();
+        
+        // Then
+        assertEquals(0, expResult.compareTo(result));
+    }
+
+    /**
+     * Test of get, min and max methods with a single decimal place near the
+     * range of long, of class MoneyVector.
+     */
+    @Test
+    public void testGetNearLongRange() {
+        // Given
+        MoneyVector largeVector = new MoneyVector();
+        Money large = mf.valueOf("9223372036854775807")
+                .divide(mf.valueOf("10"), 1, RoundingMode.DOWN);
+        largeVector.add(mf.valueOf("9223372036854775807"));
+        largeVector.add(mf.valueOf("-9223372036854775807"));
+        largeVector.divideEachWith(mf.valueOf("10"), 1, RoundingMode.DOWN);
+        
+        // When
+        Money resultFirst = largeVector.get(0);
+        Money resultMin = largeVector.min();
+        Money resultMax = largeVector.max();
+        
+        // Then
+        assertEquals(0, large.compareTo(resultFirst));
+        assertEquals(0, large.negate().compareTo(resultMin));
+        assertEquals(0, large.compareTo(resultMax));
+        assertEquals("922337203685477580.70", resultMax.toStringDecimal());
+    }
+
+    /**
+     * Test of addEachWith, subtractEachWith and multiplyEachWith methods, 
+     * of class MoneyVector.
+     */
+    @Test
+    public void testElementWiseOperations() {
+        // Given
+        Money addend = mf.valueOf("0.0000005");
+        Money subtrahend = mf.valueOf("2.5");
+        Money multiplier = mf.valueOf("-1.2");
+        
+        // When
+        vector.addEachWith(addend);
+        vector.subtractEachWith(subtrahend);
+        vector.multiplyEachWith(multiplier);
+        
+        // Then
+        for (int i = 0; i < VALUES.length; i++) {
+            Money expResult = mf.valueOf(VALUES[i]).add(addend)
+                    .subtract(subtrahend).multiply(multiplier);
+            assertEquals(0, expResult.compareTo(vector.get(i)));
+        }
+    }
+    
+    /**
+     * Test of divideEachWith method, of class MoneyVector.
+     */
+    @Test
+    public void testDivideEachWith() {
+        // Given
+        Money divisor = mf.valueOf("3");
+        
+        // When
+        vector.divideEachWith(divisor, 4, RoundingMode.HALF_EVEN);
+        
+        // Then
+        for (int i = 0; i < VALUES.length; i++) {
+            Money expResult = mf.valueOf(VALUES[i])
+                    .divide(divisor, 4, RoundingMode.HALF_EVEN);
+            assertEquals(0, expResult.compareTo(vector.get(i)));
+        }
+    }
+    
+    /**
+     * Test of divideEachWith method with the default scale, of class 
+     * MoneyVector.
+     */
+    @Test
+    public void testDivideEachWithDefaultScale() {
+        // Given
+        String[] amounts = new String[] {"100","1.5","-7"};
+        MoneyVector largeVector = new MoneyVector();
+        MoneyVector smallVector = new MoneyVector();
+        for (String amount : amounts) {
+            largeVector.add(mf.valueOf(amount));
+        }
+        smallVector.add(mf.valueOf("1"));
+        smallVector.add(mf.valueOf("-2"));
+        Money divisor = mf.valueOf("3");
+        
+        // When
+        largeVector.divideEachWith(divisor);
+        smallVector.divideEachWith(divisor);
+        
+        // Then
+        assertEquals(17, largeVector.getScale());
+        for (int i = 0; i < amounts.length; i++) {
+            Money expResult = mf.valueOf(amounts[i])
+                    .divide(divisor, 17, RoundingMode.DOWN);
+            assertEquals(0, expResult.compareTo(largeVector.get(i)));
+        }
+        assertEquals(0, mf.valueOf("1").divide(divisor)
+                .compareTo(smallVector.get(0)));
+        assertEquals(0, mf.valueOf("-2").divide(divisor)
+                .compareTo(smallVector.get(1)));
+    }
+    
+    /**
+     * Test of multiplyEachWith method when a product exceeds the range, 
+     * of class MoneyVector.
+     */
+    @Test
+    public void testMultiplyEachWithOutOfRange() {
+        // Given
+        Money before = vector.get(4);
+        Money multiplier = mf.valueOf("9000000000000");
+        
+        // When
+        try {
+            vector.multiplyEachWith(multiplier);
+            fail("Expected an ArithmeticException");
+        } catch (ArithmeticException e) {
+            // Then
+            assertEquals(before, vector.get(4));
+            assertEquals(6, vector.getScale());
+        }
+    }
+    
+    /**
+     * Test of difference, product and quotient methods, 
+     * of class MoneyVector.
+     */
+    @Test
+    public void testDifferenceProductAndQuotient() {
+        // Given
+        MoneyVector smallVector = new MoneyVector();
+        smallVector.add(mf.valueOf("10"));
+        smallVector.add(mf.valueOf("2.5"));
+        smallVector.add(mf.valueOf("0.5"));
+        
+        // When
+        Money difference = smallVector.difference();
+        Money product = smallVector.product();
+        Money quotient = smallVector.quotient();
+        
+        // Then
+        assertEquals(0, mf.valueOf("7").compareTo(difference));
+        assertEquals(0, mf.valueOf("12.5").compareTo(product));
+        assertEquals(0, mf.valueOf("8").compareTo(quotient));
+    }
+    
+    /**
+     * Test of add method with a different currency, of class MoneyVector.
+     */
+    @Test(expected = CurrencyDidNotMatchException.class)
+    public void testAddDifferentCurrency() {
+        // Given
+        Money money = new MoneyFactory("EUR").valueOf("1.00");
+        MoneyVector usdVector = new MoneyVector(
+                CurrencyRegistry.of("USD"), 4);
+        
+        // When
+        usdVector.add(money);
+    }
+    
+    /**
+     * Test of min method on an empty vector, of class MoneyVector.
+     */
+    @Test(expected = ArithmeticException.class)
+    public void testMinEmpty() {
+        // Given
+        MoneyVector emptyVector = new MoneyVector();
+        
+        // When
+        emptyVector.min();
+    }
+}
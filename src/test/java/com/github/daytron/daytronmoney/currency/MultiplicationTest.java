@@ -89,4 +89,79 @@ public class MultiplicationTest {
         }
     }
     
+    /**
+     * Test of execute method with products that overflow a long value but
+     * still fit into a Money object.
+     */
+    @Test
+    public void testExecuteWideProduct() {
+        MoneyFactory mf = new MoneyFactory();
+        
+        String[] valueA = new String[] {
+          "912345678901234567","-3"  
+        };
+        String[] valueB = new String[] {
+          "0.00000000375","0.4115226300411522631"  
+        };
+        String[] exptResults = new String[] {
+          "3421296295.87962962625","-1.2345678901234567893"  
+        };
+        
+        for (int i = 0; i< valueA.length; i++) {
+            // Given
+            Money aMoney = mf.valueOf(valueA[i]);
+            Money bMoney = mf.valueOf(valueB[i]);
+            
+            MoneyOperation multiplyOperation = new Multiplication(aMoney, bMoney);
+            Money expectedResult = mf.valueOf(exptResults[i]);
+            
+            // When 
+            Money productMoney = multiplyOperation.execute();
+            
+            // Then
+            assertEquals(expectedResult, productMoney);
+        }
+    }
+    
+    /**
+     * Test of execute method with a product larger than a whole unit can hold.
+     */
+    @Test(expected = ArithmeticException.class)
+    public void testExecuteOutOfRange() {
+        MoneyFactory mf = new MoneyFactory();
+        
+        // Given
+        Money aMoney = mf.valueOf("912345678901234567");
+        Money bMoney = mf.valueOf("-912345678901234567");
+        
+        MoneyOperation multiplyOperation = new Multiplication(aMoney, bMoney);
+        
+        // When 
+        Money productMoney = multiplyOperation.execute();
+    }
+    
+    /**
+     * Test of execute method with more decimal digits than a decimal unit 
+     * can hold, which reports the same message as other results out of 
+     * range.
+     */
+    @Test
+    public void testExecuteDecimalsOutOfRange() {
+        MoneyFactory mf = new MoneyFactory();
+        
+        // Given
+        Money aMoney = mf.valueOf("1234567.1234567891");
+        
+        MoneyOperation multiplyOperation = new Multiplication(aMoney, aMoney);
+        
+        // When 
+        try {
+            multiplyOperation.execute();
+            fail("Expected an ArithmeticException");
+        } catch (ArithmeticException e) {
+            // Then
+            assertEquals(MoneyOperation.OUT_OF_RANGE_MESSAGE, e.getMessage());
+        }
+    }
+    
 }
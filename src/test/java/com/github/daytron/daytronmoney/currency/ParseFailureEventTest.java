@@ -0,0 +1,104 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.currency;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Test class for ParseFailureEvent
+ * 
+ * @author Ryan Gilera
+ */
+public class ParseFailureEventTest {
+    
+    public ParseFailureEventTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+    }
+    
+    @Before
+    public void setUp() {
+    }
+    
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of the recording of parse failures, of class ParseFailureEvent.
+     * 
+     * @throws IOException if the recording cannot be read
+     */
+    @Test
+    public void testRecordedFailure() throws IOException {
+        MoneyFactory mf = new MoneyFactory();
+        
+        // Given
+        String[] amounts = new String[]{"1.5", "1.2.3", "6"};
+        Path file = Files.createTempFile("parse-failure", ".jfr");
+        List<RecordedEvent> events;
+        
+        // When
+        try (Recording recording = new Recording()) {
+            recording.enable("com.github.daytron.daytronmoney.ParseFailure");
+            recording.start();
+            for (String amount : amounts) {
+                try {
+                    mf.valueOf(amount);
+                } catch (IllegalArgumentException e) {
+                    // Recorded as an event
+                }
+            }
+            recording.stop();
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+        
+        // Then
+        assertEquals(1, events.size());
+        assertEquals("1.2.3", events.get(0).getString("input"));
+        assertEquals("Invalid number entry. Multiple dots detected.", 
+                events.get(0).getString("message"));
+    }
+}
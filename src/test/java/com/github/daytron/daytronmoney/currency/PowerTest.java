@@ -24,6 +24,7 @@
 package com.github.daytron.daytronmoney.currency;
 
 import com.github.daytron.daytronmoney.exception.BaseNotAWholeNumber;
+import java.math.RoundingMode;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Test;
@@ -151,4 +152,122 @@ public class PowerTest {
         // When
         Money result = zeroMoney.power(-2);
     }
+    
+    /**
+     * Test of execute method with a large exponent.
+     */
+    @Test
+    public void testExecuteLargeExponent() {
+        MoneyFactory mf = new MoneyFactory();
+        
+        assertEquals(mf.valueOf("-1"), 
+                mf.valueOf("-1").power(Long.MAX_VALUE));
+        assertEquals(mf.valueOf("4611686018427387904"), 
+                mf.valueOf("2").power(62));
+        assertEquals(mf.valueOf("-5559060566555523"), 
+                mf.valueOf("-3").power(33));
+    }
+    
+    /**
+     * Test of execute method with a result beyond the range of Money.
+     */
+    @Test(expected = ArithmeticException.class)
+    public void testExecuteOutOfRange() {
+        MoneyFactory mf = new MoneyFactory();
+        
+        mf.valueOf("2").power(Integer.MAX_VALUE);
+    }
+    
+    /**
+     * Test of execute method with bounded intermediate scale.
+     */
+    @Test
+    public void testExecuteWithScale() {
+        MoneyFactory mf = new MoneyFactory();
+        
+        String[] valueA = new String[] {
+            "1.05","1.005","-0.5","0.999","1.5","2"
+        };
+        long[] valueB = new long[] {
+            10, 360, 3, 1000000000000L, 2, -3
+        };
+        int[] scales = new int[] {
+            8, 6, 2, 4, 0, 2
+        };
+        String[] exptResults = new String[] {
+            "1.62889462","6.02279","-0.13","0","2","0.13"
+        };
+        
+        for (int i = 0; i< valueA.length; i++) {
+            // Given
+            Money aMoney = mf.valueOf(valueA[i]);
+            Money expectedResult = mf.valueOf(exptResults[i]);
+            
+            // When 
+            Money productMoney = aMoney.power(valueB[i], scales[i], 
+                    RoundingMode.HALF_UP);
+                        
+            // Then
+            assertEquals(expectedResult, productMoney);
+        }
+    }
+    
+    /**
+     * Test of execute method with bounded intermediate scale and large 
+     * negative exponents, whose powers exceed the range of Money.
+     */
+    @Test
+    public void testExecuteWithScaleLargeNegativeExponent() {
+        MoneyFactory mf = new MoneyFactory();
+        
+        String[] valueA = new String[] {
+            "2","1.5","2","-2","3","-3"
+        };
+        long[] valueB = new long[] {
+            -70, -200, -70, -71, -Long.MAX_VALUE, -Long.MAX_VALUE
+        };
+        int[] scales = new int[] {
+            30, 40, 18, 18, 10, 10
+        };
+        RoundingMode[] roundingModes = new RoundingMode[] {
+            RoundingMode.HALF_EVEN, RoundingMode.HALF_EVEN, RoundingMode.UP,
+            RoundingMode.UP, RoundingMode.HALF_EVEN, RoundingMode.FLOOR
+        };
+        String[] exptResults = new String[] {
+            "0.000000000000000000000847032947",
+            "0.0000000000000000000000000000000000060499",
+            "0.000000000000000001","-0.000000000000000001","0.0",
+            "-0.0000000001"
+        };
+        
+        for (int i = 0; i< valueA.length; i++) {
+            // Given
+            Money aMoney = mf.valueOf(valueA[i]);
+            
+            // When 
+            Money productMoney = aMoney.power(valueB[i], scales[i], 
+                    roundingModes[i]);
+                        
+            // Then
+            assertEquals(exptResults[i], productMoney.toStringDecimal());
+        }
+    }
+    
+    /**
+     * Test of execute method with a negative exponent whose power exceeds
+     * the range of long.
+     */
+    @Test
+    public void testExecuteLargeNegativeExponent() {
+        MoneyFactory mf = new MoneyFactory();
+        
+        // Given
+        Money aMoney = mf.valueOf("2");
+        
+        // When
+        Money result = aMoney.power(-70);
+        
+        // Then
+        assertTrue(result.isZero());
+    }
 }
@@ -116,4 +116,38 @@ public class SubtractionTest {
         }
     }
     
+    /**
+     * Test of execute method with a difference whose decimal part has leading 
+     * zeroes.
+     */
+    @Test
+    public void testExecuteLeadingDecimalZeros() {
+        MoneyFactory mf = new MoneyFactory();
+        
+        String[] valueA = new String[] {
+          "1.05","5","-8","4.01687","0"  
+        };
+        String[] valueB = new String[] {
+          "1.04","4.97","-8.0711","4","0.092579"  
+        };
+        String[] exptResults = new String[] {
+          "0.01","0.03","0.0711","0.01687","-0.092579"  
+        };
+        
+        for (int i = 0; i< valueA.length; i++) {
+            // Given
+            Money aMoney = mf.valueOf(valueA[i]);
+            Money bMoney = mf.valueOf(valueB[i]);
+            
+            MoneyOperation subtractionOperation = new Subtraction(aMoney, bMoney);
+            Money expectedResult = mf.valueOf(exptResults[i]);
+            
+            // When 
+            Money differenceMoney = subtractionOperation.execute();
+            
+            // Then
+            assertEquals(expectedResult, differenceMoney);
+        }
+    }
+    
 }
@@ -0,0 +1,109 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.utility;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Test class for ArithmeticUtil
+ * 
+ * @author Ryan Gilera
+ */
+public class ArithmeticUtilTest {
+    
+    public ArithmeticUtilTest() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+    }
+    
+    @Before
+    public void setUp() {
+    }
+    
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of powerOfTen method, of class ArithmeticUtil.
+     */
+    @Test
+    public void testPowerOfTen() {
+        long expected = 1;
+        for (int i = 0; i <= ArithmeticUtil.MAX_LONG_SCALE; i++) {
+            assertEquals(expected, ArithmeticUtil.powerOfTen(i));
+            expected *= 10;
+        }
+    }
+    
+    /**
+     * Test of powerOfTen method with an exponent out of range.
+     */
+    @Test(expected = ArithmeticException.class)
+    public void testPowerOfTenOutOfRange() {
+        ArithmeticUtil.powerOfTen(ArithmeticUtil.MAX_LONG_SCALE + 1);
+    }
+
+    /**
+     * Test of digitCount method, of class ArithmeticUtil.
+     */
+    @Test
+    public void testDigitCount() {
+        assertEquals(1, ArithmeticUtil.digitCount(0));
+        assertEquals(1, ArithmeticUtil.digitCount(9));
+        assertEquals(2, ArithmeticUtil.digitCount(10));
+        assertEquals(6, ArithmeticUtil.digitCount(256984));
+        assertEquals(19, ArithmeticUtil.digitCount(Long.MAX_VALUE));
+    }
+
+    /**
+     * Test of scaleUp method, of class ArithmeticUtil.
+     */
+    @Test
+    public void testScaleUp() {
+        assertEquals(1250, ArithmeticUtil.scaleUp(125, 1));
+        assertEquals(0, ArithmeticUtil.scaleUp(0, 25));
+        assertEquals(-9600, ArithmeticUtil.scaleUp(-96, 2));
+    }
+    
+    /**
+     * Test of scaleUp method with an overflowing result.
+     */
+    @Test(expected = ArithmeticException.class)
+    public void testScaleUpOverflow() {
+        ArithmeticUtil.scaleUp(Long.MAX_VALUE / 10 + 1, 1);
+    }
+    
+}
@@ -0,0 +1,144 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2015 Ryan Gilera.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.daytron.daytronmoney.utility;
+
+import java.math.BigInteger;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Test class for Int128
+ * 
+ * @author Ryan Gilera
+ */
+public class Int128Test {
+    
+    public Int128Test() {
+    }
+    
+    @BeforeClass
+    public static void setUpClass() {
+    }
+    
+    @AfterClass
+    public static void tearDownClass() {
+    }
+    
+    @Before
+    public void setUp() {
+    }
+    
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of setProduct method, of class Int128.
+     */
+    @Test
+    public void testSetProduct() {
+        long[] valueA = new long[] {
+            0, -1, Long.MAX_VALUE, Long.MIN_VALUE, 912345678901234567L
+        };
+        long[] valueB = new long[] {
+            Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, -375
+        };
+        
+        for (int i = 0; i < valueA.length; i++) {
+            // Given
+            BigInteger expResult = BigInteger.valueOf(valueA[i])
+                    .multiply(BigInteger.valueOf(valueB[i]));
+            
+            // When
+            Int128 result = new Int128().setProduct(valueA[i], valueB[i]);
+            
+            // Then
+            assertEquals(expResult, result.toBigInteger());
+            assertEquals(expResult.bitLength() < 64, result.fitsInLong());
+        }
+    }
+
+    /**
+     * Test of add, addProduct and negate methods, of class Int128.
+     */
+    @Test
+    public void testAddAndNegate() {
+        // Given
+        BigInteger expResult = BigInteger.valueOf(Long.MAX_VALUE)
+                .multiply(BigInteger.valueOf(Long.MAX_VALUE))
+                .add(BigInteger.valueOf(Long.MAX_VALUE))
+                .add(BigInteger.valueOf(-5))
+                .negate();
+        
+        // When
+        Int128 result = new Int128()
+                .addProduct(Long.MAX_VALUE, Long.MAX_VALUE)
+                .add(Long.MAX_VALUE)
+                .add(new Int128().set(-5))
+                .negate();
+        
+        // Then
+        assertEquals(expResult, result.toBigInteger());
+        assertEquals(-1, result.signum());
+        assertEquals(0, new Int128().signum());
+    }
+
+    /**
+     * Test of divideAndRemainder and remainder methods, of class Int128.
+     */
+    @Test
+    public void testDivideAndRemainder() {
+        long[] divisors = new long[] {
+            10, 1_000_000_000_000_000_000L, 3, Long.MAX_VALUE, 
+            // 10^19 read as an unsigned value
+            -8446744073709551616L
+        };
+        BigInteger dividend = BigInteger.valueOf(Long.MAX_VALUE)
+                .multiply(BigInteger.valueOf(912345678901234567L));
+        
+        for (long divisor : divisors) {
+            // Given
+            BigInteger unsignedDivisor = new BigInteger(
+                    Long.toUnsignedString(divisor));
+            BigInteger[] expResult = dividend.divideAndRemainder(unsignedDivisor);
+            Int128 value = new Int128().setProduct(Long.MAX_VALUE, 
+                    912345678901234567L);
+            
+            // When
+            long remainder = value.remainder(divisor);
+            long remainderAfterDivision = value.divideAndRemainder(divisor);
+            
+            // Then
+            assertEquals(expResult[0], value.toBigInteger());
+            assertEquals(expResult[1], new BigInteger(
+                    Long.toUnsignedString(remainderAfterDivision)));
+            assertEquals(remainder, remainderAfterDivision);
+        }
+    }
+    
+}